@@ -0,0 +1,261 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.actions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MapperIndex;
+
+import static org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection.createIgnoreMappingAnnotations;
+import static org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection.findUnmappedTargetProperties;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotations;
+
+/**
+ * Action that ignores all the unmapped target properties of the mappers in the selected files and directories, or in
+ * the whole project when nothing is selected. It is the bulk variant of the "Add ignore all unmapped target
+ * properties" quick fix of the {@link org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection}.
+ * <p>
+ * The unmapped target properties are computed in a cancellable background task, one read action per mapper file.
+ * The {@link org.mapstruct.Mapping} annotations are then added with one write command per file.
+ */
+public class IgnoreAllUnmappedTargetPropertiesAction extends AnAction {
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible( e.getProject() != null );
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if ( project == null ) {
+            return;
+        }
+
+        VirtualFile[] selectedFiles = e.getData( CommonDataKeys.VIRTUAL_FILE_ARRAY );
+        new IgnoreUnmappedTargetPropertiesTask( project, selectedFiles ).queue();
+    }
+
+    private static final class IgnoreUnmappedTargetPropertiesTask extends Task.Backgroundable {
+
+        private final VirtualFile[] selectedFiles;
+        private int ignoredProperties;
+        private int changedMethods;
+
+        private IgnoreUnmappedTargetPropertiesTask(@NotNull Project project, @Nullable VirtualFile[] selectedFiles) {
+            super( project, MapStructBundle.message( "action.ignore.all.unmapped.target.properties.title" ), true );
+            this.selectedFiles = selectedFiles == null ? VirtualFile.EMPTY_ARRAY : selectedFiles;
+        }
+
+        @Override
+        public void run(@NotNull ProgressIndicator indicator) {
+            Project project = getProject();
+            indicator.setIndeterminate( false );
+            indicator.setText( MapStructBundle.message( "action.ignore.all.unmapped.target.properties.searching" ) );
+
+            List<VirtualFile> mapperFiles = ReadAction.nonBlocking( () -> findMapperFiles( project ) )
+                .inSmartMode( project )
+                .wrapProgress( indicator )
+                .executeSynchronously();
+
+            Map<VirtualFile, List<UnmappedMethod>> unmappedMethods = new LinkedHashMap<>();
+            for ( int i = 0; i < mapperFiles.size(); i++ ) {
+                indicator.checkCanceled();
+                VirtualFile mapperFile = mapperFiles.get( i );
+                indicator.setFraction( (double) i / mapperFiles.size() / 2 );
+                indicator.setText2( mapperFile.getPresentableUrl() );
+
+                List<UnmappedMethod> fileUnmappedMethods = ReadAction.nonBlocking(
+                        () -> findUnmappedMethods( project, mapperFile )
+                    )
+                    .inSmartMode( project )
+                    .wrapProgress( indicator )
+                    .executeSynchronously();
+                if ( !fileUnmappedMethods.isEmpty() ) {
+                    unmappedMethods.put( mapperFile, fileUnmappedMethods );
+                }
+            }
+
+            indicator.setText( MapStructBundle.message( "action.ignore.all.unmapped.target.properties.applying" ) );
+            int fileIndex = 0;
+            for ( Map.Entry<VirtualFile, List<UnmappedMethod>> entry : unmappedMethods.entrySet() ) {
+                indicator.checkCanceled();
+                indicator.setFraction( 0.5 + (double) fileIndex++ / unmappedMethods.size() / 2 );
+                indicator.setText2( entry.getKey().getPresentableUrl() );
+
+                // Every file is changed in its own write command, so the task can still be cancelled between files
+                ApplicationManager.getApplication().invokeAndWait(
+                    () -> ignoreUnmappedTargetProperties( project, entry.getKey(), entry.getValue() ),
+                    ModalityState.nonModal()
+                );
+            }
+        }
+
+        @Override
+        public void onSuccess() {
+            notifyResult();
+        }
+
+        @Override
+        public void onCancel() {
+            // The files that were changed before the task was cancelled keep their changes
+            if ( changedMethods > 0 ) {
+                notifyResult();
+            }
+        }
+
+        private void notifyResult() {
+            Project project = getProject();
+            if ( project.isDisposed() ) {
+                return;
+            }
+
+            NotificationGroupManager.getInstance()
+                .getNotificationGroup( "MapStruct" )
+                .createNotification(
+                    MapStructBundle.message(
+                        "action.ignore.all.unmapped.target.properties.result",
+                        ignoredProperties,
+                        changedMethods
+                    ),
+                    NotificationType.INFORMATION
+                )
+                .notify( project );
+        }
+
+        private void ignoreUnmappedTargetProperties(@NotNull Project project, @NotNull VirtualFile mapperFile,
+                                                    @NotNull List<UnmappedMethod> unmappedMethods) {
+            PsiFile psiFile = mapperFile.isValid() ? PsiManager.getInstance( project ).findFile( mapperFile ) : null;
+            if ( psiFile == null ) {
+                return;
+            }
+
+            WriteCommandAction.writeCommandAction( project, psiFile )
+                .withName( getTitle() )
+                .run( () -> {
+                    for ( UnmappedMethod unmappedMethod : unmappedMethods ) {
+                        PsiMethod method = unmappedMethod.method().getElement();
+                        if ( method == null ) {
+                            // The method has been removed since the unmapped target properties were computed
+                            continue;
+                        }
+
+                        // The method might have been changed in the meantime, only ignore what is still unmapped
+                        Set<String> targetProperties = new LinkedHashSet<>( unmappedMethod.targetProperties() );
+                        targetProperties.retainAll( findUnmappedTargetProperties( method ) );
+                        if ( targetProperties.isEmpty() ) {
+                            continue;
+                        }
+
+                        addMappingAnnotations(
+                            project,
+                            method,
+                            createIgnoreMappingAnnotations( method, targetProperties ),
+                            false
+                        );
+                        ignoredProperties += targetProperties.size();
+                        changedMethods++;
+                    }
+                } );
+        }
+
+        @NotNull
+        private List<VirtualFile> findMapperFiles(@NotNull Project project) {
+            Set<VirtualFile> mapperFiles = new LinkedHashSet<>();
+            for ( PsiClass mapper : MapperIndex.findMappers( project, GlobalSearchScope.projectScope( project ) ) ) {
+                ProgressManager.checkCanceled();
+                PsiFile psiFile = mapper.getContainingFile();
+                VirtualFile virtualFile = psiFile == null ? null : psiFile.getVirtualFile();
+                if ( virtualFile != null && isSelected( virtualFile ) ) {
+                    mapperFiles.add( virtualFile );
+                }
+            }
+
+            return new ArrayList<>( mapperFiles );
+        }
+
+        private boolean isSelected(@NotNull VirtualFile virtualFile) {
+            if ( selectedFiles.length == 0 ) {
+                return true;
+            }
+
+            for ( VirtualFile selectedFile : selectedFiles ) {
+                if ( VfsUtilCore.isAncestor( selectedFile, virtualFile, false ) ) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @NotNull
+        private static List<UnmappedMethod> findUnmappedMethods(@NotNull Project project,
+                                                                @NotNull VirtualFile mapperFile) {
+            PsiFile psiFile = mapperFile.isValid() ? PsiManager.getInstance( project ).findFile( mapperFile ) : null;
+            if ( psiFile == null ) {
+                return List.of();
+            }
+
+            SmartPointerManager pointerManager = SmartPointerManager.getInstance( project );
+            List<UnmappedMethod> unmappedMethods = new ArrayList<>();
+            for ( PsiClass psiClass : MapperIndex.findMappers( project, GlobalSearchScope.fileScope( psiFile ) ) ) {
+                for ( PsiMethod method : psiClass.getMethods() ) {
+                    ProgressManager.checkCanceled();
+                    Set<String> targetProperties = findUnmappedTargetProperties( method );
+                    if ( !targetProperties.isEmpty() ) {
+                        unmappedMethods.add( new UnmappedMethod(
+                            pointerManager.createSmartPsiElementPointer( method ),
+                            targetProperties
+                        ) );
+                    }
+                }
+            }
+
+            return unmappedMethods;
+        }
+    }
+
+    private record UnmappedMethod(SmartPsiElementPointer<PsiMethod> method, Collection<String> targetProperties) {
+    }
+}
@@ -17,6 +17,7 @@
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.util.ProcessingContext;
 import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 
 import static com.intellij.patterns.StandardPatterns.or;
 import static org.mapstruct.intellij.util.MapstructElementUtils.mapperConfigElementPattern;
@@ -41,10 +42,6 @@ public ComponentModelCompletionContributor() {
 
     public static class ComponentModelCompletionProvider extends CompletionProvider<CompletionParameters> {
 
-        //TODO If we can somehow get access to all the AnnotationBasedComponentModelProcessor and extract
-        // their getComponentModelIdentifier then we can use those. I don't know how to do this within the plugin
-        private static final List<String> COMPONENT_MODEL_TYPES = List.of( "default", "cdi", "spring", "jsr330" );
-
         @Override
         protected void addCompletions(@NotNull CompletionParameters parameters, @NotNull ProcessingContext context,
             @NotNull CompletionResultSet result) {
@@ -55,7 +52,9 @@ protected void addCompletions(@NotNull CompletionParameters parameters, @NotNull
                 return;
             }
 
-            for ( String type : COMPONENT_MODEL_TYPES ) {
+            List<String> componentModels = MapStructEnvironment.getInstance( parameters.getOriginalFile() )
+                .componentModels();
+            for ( String type : componentModels ) {
                 if ( result.getPrefixMatcher().isStartMatch( type ) ) {
                     result.addElement( LookupElementBuilder.create( type ) );
                 }
@@ -5,7 +5,12 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.function.Predicate;
+
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiEnumConstant;
@@ -14,6 +19,9 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.ValueMappingUtils.findEnumConstants;
 
 /**
  * Base Reference for {@link org.mapstruct.ValueMapping}(s).
@@ -103,11 +111,51 @@ public final Object[] getVariants() {
         if ( enumClass == null ) {
             return LookupElement.EMPTY_ARRAY;
         }
-        return getVariantsInternal( mappingMethod, enumClass );
+
+        Predicate<PsiEnumConstant> variantFilter = variantFilter( mappingMethod );
+        return findEnumConstants( enumClass )
+            .stream()
+            .filter( variantFilter )
+            .map( MapstructUtil::asLookup )
+            .toArray( LookupElement[]::new );
+    }
+
+    /**
+     * Add the variants of this reference to the completion {@code result}. Unlike {@link #getVariants()} the
+     * constants are passed one by one, and only the ones that match the prefix of the {@code result} are created.
+     *
+     * @param result the result to which the variants need to be added
+     */
+    final void addVariants(@NotNull CompletionResultSet result) {
+        PsiMethod mappingMethod = getMappingMethod();
+        if ( mappingMethod == null ) {
+            return;
+        }
+        PsiClass enumClass = getEnumClass( mappingMethod );
+        if ( enumClass == null ) {
+            return;
+        }
+
+        PrefixMatcher prefixMatcher = result.getPrefixMatcher();
+        Predicate<PsiEnumConstant> variantFilter = variantFilter( mappingMethod );
+        for ( PsiEnumConstant enumConstant : findEnumConstants( enumClass ) ) {
+            ProgressManager.checkCanceled();
+            if ( prefixMatcher.prefixMatches( enumConstant.getName() ) && variantFilter.test( enumConstant ) ) {
+                result.addElement( MapstructUtil.asLookup( enumConstant ) );
+            }
+        }
     }
 
+    /**
+     * @param mappingMethod the mapping method
+     *
+     * @return the filter for the constants of the enum that should be proposed, by default all constants are
+     * proposed
+     */
     @NotNull
-    abstract Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull PsiClass enumClass);
+    Predicate<PsiEnumConstant> variantFilter(@NotNull PsiMethod mappingMethod) {
+        return enumConstant -> true;
+    }
 
     @NotNull
     @Override
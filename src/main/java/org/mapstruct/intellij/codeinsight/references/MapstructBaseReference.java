@@ -5,9 +5,19 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.ElementManipulator;
 import com.intellij.psi.ElementManipulators;
@@ -16,13 +26,17 @@
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapstructUtil;
 
+import static org.mapstruct.intellij.util.MapstructUtil.asNestedLookup;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
 
 /**
@@ -32,8 +46,12 @@
  */
 abstract class MapstructBaseReference extends BaseReference {
 
+    private static final ResolveCache.AbstractResolver<MapstructBaseReference, PsiElement> RESOLVER =
+        (reference, incompleteCode) -> reference.resolveUncached();
+
     private final MapstructBaseReference previous;
     private final String value;
+    protected final MapStructEnvironment environment;
     protected final MapstructUtil mapstructUtil;
 
     /**
@@ -48,7 +66,8 @@ abstract class MapstructBaseReference extends BaseReference {
         super( element, rangeInElement );
         this.previous = previous;
         this.value = value;
-        this.mapstructUtil = MapstructUtil.getInstance( element.getContainingFile() );
+        this.environment = MapStructEnvironment.getInstance( element.getContainingFile() );
+        this.mapstructUtil = environment.mapstructUtil();
     }
 
     @Override
@@ -60,9 +79,24 @@ public String getValue() {
         return super.getValue();
     }
 
+    /**
+     * Resolves the reference through the {@link ResolveCache}. The resolved element is cached until the next PSI
+     * modification, which makes resolving nested references linear in the length of the path, since every previous
+     * reference is resolved only once.
+     */
     @Nullable
     @Override
     public final PsiElement resolve() {
+        return ResolveCache.getInstance( getElement().getProject() ).resolveWithCaching(
+            this,
+            RESOLVER,
+            false,
+            false
+        );
+    }
+
+    @Nullable
+    private PsiElement resolveUncached() {
         String value = getValue();
         if ( value.isEmpty() ) {
             return null;
@@ -119,6 +153,150 @@ public final Object[] getVariants() {
         return mappingMethod == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( mappingMethod );
     }
 
+    /**
+     * Add the variants of this reference to the completion {@code result}. Unlike {@link #getVariants()} the
+     * variants are passed one by one, and only the ones that match the prefix of the {@code result} are created.
+     *
+     * @param result the result to which the variants need to be added
+     */
+    final void addVariants(@NotNull CompletionResultSet result) {
+        if ( previous != null ) {
+            PsiType resolvedType = previous.resolvedType();
+            if ( canDescendIntoType( resolvedType ) ) {
+                addVariantsInternal( resolvedType, result );
+            }
+            return;
+        }
+
+        PsiMethod mappingMethod = getMappingMethod();
+        if ( mappingMethod != null ) {
+            addVariantsInternal( mappingMethod, result );
+        }
+    }
+
+    /**
+     * Add all the variants for the given {@code psiType} to the {@code result}. By default, these are the
+     * {@link #getVariantsInternal(PsiType)}.
+     *
+     * @param psiType the type for which variants need to be added
+     * @param result the result to which the variants need to be added
+     */
+    void addVariantsInternal(@NotNull PsiType psiType, @NotNull CompletionResultSet result) {
+        addLookupElements( getVariantsInternal( psiType ), result );
+    }
+
+    /**
+     * Add all the variants for the given {@code mappingMethod} to the {@code result}. By default, these are the
+     * {@link #getVariantsInternal(PsiMethod)}.
+     *
+     * @param mappingMethod the mapping method for which variants need to be added
+     * @param result the result to which the variants need to be added
+     */
+    void addVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull CompletionResultSet result) {
+        addLookupElements( getVariantsInternal( mappingMethod ), result );
+    }
+
+    /**
+     * Add the nested paths starting at this reference, e.g. {@code address.street}, to the completion
+     * {@code result}. The paths are computed breadth first over the cached accessors of the types, and the search
+     * stops when the paths have {@code maxDepth} segments, or when the {@code timeBudgetMillis} has been spent.
+     * The accessors of a type are only looked up once, no matter through how many paths the type is reached (e.g.
+     * {@code home} and {@code work} of the same {@code Address} type, or a self referencing type).
+     * The single segment paths are not added, they are the {@link #addVariants(CompletionResultSet) variants}.
+     *
+     * @param result the result to which the paths need to be added
+     * @param maxDepth the maximum number of segments of the paths
+     * @param timeBudgetMillis the time after which no more paths are searched
+     */
+    final void addNestedPathVariants(@NotNull CompletionResultSet result, int maxDepth, long timeBudgetMillis) {
+        PsiType psiType;
+        if ( previous != null ) {
+            psiType = previous.resolvedType();
+        }
+        else {
+            PsiMethod mappingMethod = getMappingMethod();
+            psiType = mappingMethod == null ? null : nestedPathRootType( mappingMethod );
+        }
+
+        if ( psiType == null || !supportsNestedReferenceForType( psiType ) ) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeBudgetMillis );
+        PrefixMatcher prefixMatcher = result.getPrefixMatcher();
+        Function<PsiElement, PsiType> typeMapper = nestedPathTypeMapper();
+        Deque<NestedPath> nestedPaths = new ArrayDeque<>();
+        Map<String, Map<String, Pair<? extends PsiElement, PsiSubstitutor>>> accessorsByType = new HashMap<>();
+        nestedPaths.add( new NestedPath( "", psiType, 0 ) );
+        while ( !nestedPaths.isEmpty() ) {
+            NestedPath parent = nestedPaths.poll();
+            int depth = parent.depth() + 1;
+            Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors = accessorsByType.computeIfAbsent(
+                parent.type().getCanonicalText(),
+                typeText -> nestedPathAccessors( parent.type() )
+            );
+            for ( Map.Entry<String, Pair<? extends PsiElement, PsiSubstitutor>> entry : accessors.entrySet() ) {
+                ProgressManager.checkCanceled();
+                if ( System.nanoTime() > deadline ) {
+                    return;
+                }
+
+                String propertyName = entry.getKey();
+                Pair<? extends PsiElement, PsiSubstitutor> accessor = entry.getValue();
+                String path = parent.path().isEmpty() ? propertyName : parent.path() + "." + propertyName;
+                if ( depth > 1 && ( prefixMatcher.prefixMatches( path ) ||
+                    prefixMatcher.prefixMatches( propertyName ) ) ) {
+                    result.addElement( asNestedLookup( path, propertyName, accessor, typeMapper ) );
+                }
+
+                if ( depth < maxDepth ) {
+                    PsiType accessorType = typeMapper.apply( accessor.getFirst() );
+                    accessorType = accessorType == null ? null : accessor.getSecond().substitute( accessorType );
+                    if ( accessorType != null && supportsNestedReferenceForType( accessorType ) ) {
+                        nestedPaths.add( new NestedPath( path, accessorType, depth ) );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param mappingMethod the mapping method
+     *
+     * @return the type in which the nested paths of the first reference start, {@code null} if there are no nested
+     * paths
+     */
+    @Nullable
+    PsiType nestedPathRootType(@NotNull PsiMethod mappingMethod) {
+        return null;
+    }
+
+    /**
+     * @param psiType the type of a segment of a nested path
+     *
+     * @return the accessors that can follow the segment in a nested path
+     */
+    @NotNull
+    Map<String, Pair<? extends PsiElement, PsiSubstitutor>> nestedPathAccessors(@NotNull PsiType psiType) {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return the function that provides the type of an accessor returned by {@link #nestedPathAccessors(PsiType)}
+     */
+    @NotNull
+    Function<PsiElement, PsiType> nestedPathTypeMapper() {
+        return psiElement -> null;
+    }
+
+    private static void addLookupElements(@NotNull Object[] variants, @NotNull CompletionResultSet result) {
+        for ( Object variant : variants ) {
+            if ( variant instanceof LookupElement lookupElement ) {
+                result.addElement( lookupElement );
+            }
+        }
+    }
+
     /**
      * Find all the variants for the given {@code psiClass}.
      *
@@ -221,6 +399,9 @@ static <T extends MapstructBaseReference> PsiReference[] create(PsiElement psiEl
         return references;
     }
 
+    private record NestedPath(String path, PsiType type, int depth) {
+    }
+
     private static class RangeCreator implements Function<String, TextRange> {
 
         private int nextStart;
@@ -6,12 +6,20 @@
 package org.mapstruct.intellij.codeinsight.references;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
@@ -23,9 +31,13 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypes;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.IndexUtils;
+import org.mapstruct.intellij.index.NamedMethodIndex;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
@@ -65,7 +77,10 @@ PsiElement resolveInternal(@NotNull String value, @NotNull PsiType psiType) {
     @Override
     PsiElement resolveInternal(@NotNull String value, @NotNull PsiMethod mappingMethod) {
 
-        return findAllNamedMethodsFromThisAndReferencedMappers( mappingMethod )
+        return findAllNamedMethodsFromThisAndReferencedMappers(
+            mappingMethod,
+            scope -> NamedMethodIndex.findNamedMethods( value, scope )
+        )
             .filter( a -> Objects.equals( getNamedValue( a ), value ) )
             .findAny()
             .orElse( null );
@@ -92,11 +107,31 @@ Object[] getVariantsInternal(@NotNull PsiType psiType) {
     @NotNull
     @Override
     Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod) {
+        return namedMethodLookups( mappingMethod, name -> true ).toArray();
+    }
+
+    @Override
+    void addVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull CompletionResultSet result) {
+        // Only the names that the matcher of the completion accepts need to be looked up in the index
+        PrefixMatcher prefixMatcher = result.getPrefixMatcher();
+        namedMethodLookups( mappingMethod, prefixMatcher::prefixMatches ).forEach( result::addElement );
+    }
 
-        return findAllNamedMethodsFromThisAndReferencedMappers( mappingMethod )
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) throws IncorrectOperationException {
+        // The qualifier is the value of @Named, it does not change when the named method is renamed
+        return getElement();
+    }
+
+    @NotNull
+    private Stream<LookupElement> namedMethodLookups(@NotNull PsiMethod mappingMethod,
+                                                     @NotNull Predicate<String> nameFilter) {
+        return findAllNamedMethodsFromThisAndReferencedMappers(
+            mappingMethod,
+            scope -> NamedMethodIndex.findNamedMethods( nameFilter, scope )
+        )
             .map( this::methodAsLookup )
-            .filter( Objects::nonNull )
-            .toArray();
+            .filter( Objects::nonNull );
     }
 
     private boolean methodHasReturnType(@NotNull PsiMethod psiMethod) {
@@ -104,18 +139,22 @@ private boolean methodHasReturnType(@NotNull PsiMethod psiMethod) {
     }
 
     @NotNull
-    private Stream<PsiMethod> findAllNamedMethodsFromThisAndReferencedMappers(@NotNull PsiMethod mappingMethod) {
+    private Stream<PsiMethod> findAllNamedMethodsFromThisAndReferencedMappers(@NotNull PsiMethod mappingMethod,
+        Function<GlobalSearchScope, List<NamedMethodIndex.NamedMethod>> indexedNamedMethods) {
 
         PsiClass containingClass = mappingMethod.getContainingClass();
         if ( containingClass == null ) {
             return Stream.empty();
         }
 
+        Predicate<PsiMethod> namedMethodCandidate = namedMethodCandidate( containingClass, indexedNamedMethods );
+
         Stream<PsiMethod> internalMethods = Stream.of( containingClass.getAllMethods() )
+            .filter( namedMethodCandidate )
             .filter( MapstructUtil::isNamedMethod )
             .filter( m -> !m.hasModifierProperty( PsiModifier.PRIVATE ) );
 
-        Stream<PsiMethod> externalMethods = findNamedMethodsInUsedMappers( containingClass )
+        Stream<PsiMethod> externalMethods = findNamedMethodsInUsedMappers( containingClass, namedMethodCandidate )
             .filter( method -> methodIsAccessibleFrom( method, containingClass ) );
 
         return Stream.concat( internalMethods, externalMethods )
@@ -146,8 +185,29 @@ private boolean haveSamePackage(PsiClass firstClass, PsiClass secondClass) {
         );
     }
 
+    /**
+     * Use the {@link NamedMethodIndex} to avoid looking for the {@link org.mapstruct.Named} annotation on every
+     * method. Only the methods of {@link IndexUtils#findIndexedJavaFile indexed Java files} are part of the index (e.g.
+     * compiled and Kotlin methods are not), and the index can't be used in dumb mode, so in those cases every method
+     * is a candidate.
+     */
+    @NotNull
+    private static Predicate<PsiMethod> namedMethodCandidate(@NotNull PsiClass containingClass,
+        Function<GlobalSearchScope, List<NamedMethodIndex.NamedMethod>> indexedNamedMethods) {
+        if ( DumbService.isDumb( containingClass.getProject() ) ) {
+            return method -> true;
+        }
+
+        Set<NamedMethodIndex.NamedMethod> namedMethods = new HashSet<>( indexedNamedMethods.apply(
+            containingClass.getResolveScope()
+        ) );
+        return method -> IndexUtils.findIndexedJavaFile( method ) == null ||
+            namedMethods.contains( NamedMethodIndex.NamedMethod.of( method ) );
+    }
+
     @NotNull
-    private Stream<PsiMethod> findNamedMethodsInUsedMappers(@Nullable PsiClass containingClass) {
+    private Stream<PsiMethod> findNamedMethodsInUsedMappers(@Nullable PsiClass containingClass,
+                                                            Predicate<PsiMethod> namedMethodCandidate) {
 
         PsiAnnotation mapperOrMapperConfigAnnotation =
             Optional.ofNullable( findAnnotation( containingClass, MAPPER_ANNOTATION_FQN ) )
@@ -159,6 +219,7 @@ private Stream<PsiMethod> findNamedMethodsInUsedMappers(@Nullable PsiClass conta
 
         return findReferencedMapperClasses( mapperOrMapperConfigAnnotation )
             .flatMap( psiClass -> Arrays.stream( psiClass.getMethods() ) )
+            .filter( namedMethodCandidate )
             .filter( MapstructUtil::isNamedMethod );
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.codeinsight.references;
+
+import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.openapi.actionSystem.IdeActions;
+import com.intellij.openapi.keymap.KeymapUtil;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiReference;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.settings.ProjectSettings;
+
+/**
+ * {@link CompletionContributor} for the MapStruct references in {@link org.mapstruct.Mapping#target()},
+ * {@link org.mapstruct.Mapping#source()}, {@link org.mapstruct.ValueMapping#source()} and
+ * {@link org.mapstruct.ValueMapping#target()}.
+ * <p>
+ * The platform completes references through {@link PsiReference#getVariants()}, which creates the lookups for all
+ * the properties and filters them afterwards. This contributor passes the properties (or enum constants) that match
+ * the prefix to the result one by one instead, so the first lookups are shown immediately, even for types with
+ * hundreds of properties or enums with thousands of constants.
+ * <p>
+ * The contributor is registered {@code first}, it needs to run before the Java completion contributor, which
+ * completes all the references of a literal through {@link PsiReference#getVariants()}. Once the variants of a
+ * MapStruct reference are added, the completion is stopped, so they are not added a second time.
+ * <p>
+ * When the completion is invoked a second time, the nested paths, e.g. {@code customer.address.street}, up to the
+ * depth configured in the {@link ProjectSettings} are proposed as well.
+ */
+public class MapstructReferenceCompletionContributor extends CompletionContributor {
+
+    private static final long NESTED_PATH_TIME_BUDGET_MILLIS = 300;
+
+    @Override
+    public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
+        if ( parameters.getCompletionType() != CompletionType.BASIC ) {
+            return;
+        }
+
+        PsiElement literal = parameters.getPosition().getParent();
+        if ( !( literal instanceof PsiLiteralExpression ) ) {
+            //We should only complete if we are in a literal expression, i.e. inside the quotes
+            return;
+        }
+
+        int offsetInLiteral = parameters.getOffset() - literal.getTextRange().getStartOffset();
+        for ( PsiReference reference : literal.getReferences() ) {
+            TextRange rangeInElement = reference.getRangeInElement();
+            if ( !rangeInElement.containsOffset( offsetInLiteral ) ) {
+                continue;
+            }
+
+            String prefix = literal.getText().substring( rangeInElement.getStartOffset(), offsetInLiteral );
+            if ( reference instanceof MapstructBaseReference mapstructReference ) {
+                CompletionResultSet referenceResult = result.withPrefixMatcher( prefix );
+                mapstructReference.addVariants( referenceResult );
+                addNestedPathVariants( parameters, mapstructReference, referenceResult );
+            }
+            else if ( reference instanceof BaseValueMappingReference valueMappingReference ) {
+                valueMappingReference.addVariants( result.withPrefixMatcher( prefix ) );
+            }
+            else {
+                continue;
+            }
+
+            // The variants of the reference are complete, they should not be added again from getVariants
+            result.stopHere();
+            return;
+        }
+    }
+
+    private static void addNestedPathVariants(@NotNull CompletionParameters parameters,
+                                              @NotNull MapstructBaseReference reference,
+                                              @NotNull CompletionResultSet result) {
+        int nestedPathDepth = ProjectSettings.getNestedPathCompletionDepth( parameters.getPosition().getProject() );
+        if ( nestedPathDepth < 2 ) {
+            return;
+        }
+
+        if ( parameters.getInvocationCount() > 1 ) {
+            reference.addNestedPathVariants( result, nestedPathDepth, NESTED_PATH_TIME_BUDGET_MILLIS );
+        }
+        else {
+            result.addLookupAdvertisement( MapStructBundle.message(
+                "completion.nested.paths.advertisement",
+                KeymapUtil.getFirstKeyboardShortcutText( IdeActions.ACTION_CODE_COMPLETION )
+            ) );
+        }
+    }
+}
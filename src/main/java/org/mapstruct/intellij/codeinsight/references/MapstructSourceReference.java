@@ -5,10 +5,19 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
@@ -17,6 +26,7 @@
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiRecordComponent;
 import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiVariable;
 import com.intellij.psi.util.PsiUtil;
@@ -24,6 +34,7 @@
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.util.MapstructUtil;
 
+import static org.mapstruct.intellij.util.MapstructUtil.addLookups;
 import static org.mapstruct.intellij.util.MapstructUtil.asLookup;
 import static org.mapstruct.intellij.util.MapstructUtil.findRecordComponent;
 import static org.mapstruct.intellij.util.MapstructUtil.isPublicNonStatic;
@@ -115,18 +126,73 @@ Object[] getVariantsInternal(@NotNull PsiType psiType) {
         return asLookup( publicReadAccessors( psiType ), MapstructSourceReference::memberPsiType );
     }
 
+    @Override
+    void addVariantsInternal(@NotNull PsiType psiType, @NotNull CompletionResultSet result) {
+        addLookups( publicReadAccessors( psiType ), MapstructSourceReference::memberPsiType, result );
+    }
+
     @NotNull
     @Override
     Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod) {
+        List<LookupElement> variants = new ArrayList<>();
+        addMappingMethodVariants( mappingMethod, PrefixMatcher.ALWAYS_TRUE, variants::add );
+        return variants.toArray( LookupElement.EMPTY_ARRAY );
+    }
+
+    @Override
+    void addVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull CompletionResultSet result) {
+        addMappingMethodVariants( mappingMethod, result.getPrefixMatcher(), result::addElement );
+    }
+
+    /**
+     * The variants of a mapping method with a single source parameter are the properties of that parameter. With
+     * multiple source parameters the variants are the parameters themselves.
+     */
+    private void addMappingMethodVariants(@NotNull PsiMethod mappingMethod, @NotNull PrefixMatcher prefixMatcher,
+                                          @NotNull Consumer<LookupElement> consumer) {
         PsiParameter[] sourceParameters = MapstructUtil.getSourceParameters( mappingMethod );
         if ( sourceParameters.length == 1 ) {
             PsiType parameterType = getParameterType( sourceParameters[0] );
-            return parameterType == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( parameterType );
+            if ( parameterType != null ) {
+                addLookups(
+                    publicReadAccessors( parameterType ),
+                    MapstructSourceReference::memberPsiType,
+                    prefixMatcher,
+                    consumer
+                );
+            }
+            return;
         }
 
-        return Stream.of( sourceParameters )
-            .map( MapstructUtil::asLookup )
-            .toArray( LookupElement[]::new );
+        for ( PsiParameter sourceParameter : sourceParameters ) {
+            if ( prefixMatcher.prefixMatches( sourceParameter.getName() ) ) {
+                consumer.accept( asLookup( sourceParameter ) );
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    PsiType nestedPathRootType(@NotNull PsiMethod mappingMethod) {
+        PsiParameter[] sourceParameters = MapstructUtil.getSourceParameters( mappingMethod );
+        // With multiple source parameters the first segment is the name of a parameter
+        return sourceParameters.length == 1 ? getParameterType( sourceParameters[0] ) : null;
+    }
+
+    @NotNull
+    @Override
+    Map<String, Pair<? extends PsiElement, PsiSubstitutor>> nestedPathAccessors(@NotNull PsiType psiType) {
+        if ( MapstructUtil.isMapWithStringKeyType( psiType ) ) {
+            // The keys of a map are not known
+            return Collections.emptyMap();
+        }
+        return publicReadAccessors( psiType );
+    }
+
+    @NotNull
+    @Override
+    Function<PsiElement, PsiType> nestedPathTypeMapper() {
+        return MapstructSourceReference::memberPsiType;
     }
 
     @Nullable
@@ -5,17 +5,28 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiParameterList;
@@ -24,16 +35,22 @@
 import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiVariable;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.Mapping;
 import org.mapstruct.intellij.util.MapStructVersion;
 import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.SourceUtils;
 import org.mapstruct.intellij.util.TargetType;
 import org.mapstruct.intellij.util.TargetUtils;
 
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappingAnnotations;
+import static org.mapstruct.intellij.util.MapstructUtil.addLookups;
 import static org.mapstruct.intellij.util.MapstructUtil.asLookup;
 import static org.mapstruct.intellij.util.MapstructUtil.findRecordComponent;
 import static org.mapstruct.intellij.util.MapstructUtil.isPublicModifiable;
@@ -51,6 +68,10 @@
  */
 class MapstructTargetReference extends BaseMappingReference {
 
+    private static final Key<CachedValue<ConcurrentMap<AccessorsKey,
+        CachedValue<Map<String, Pair<? extends PsiElement, PsiSubstitutor>>>>>> TARGET_ACCESSORS_KEY =
+        Key.create( "MapStructTargetAccessors" );
+
     private final MapStructVersion mapStructVersion;
 
     /**
@@ -64,8 +85,7 @@ class MapstructTargetReference extends BaseMappingReference {
     private MapstructTargetReference(PsiElement element, MapstructTargetReference previousReference,
         TextRange rangeInElement, String value) {
         super( element, previousReference, rangeInElement, value );
-        mapStructVersion = MapstructUtil.resolveMapStructProjectVersion( element.getContainingFile()
-            .getOriginalFile() );
+        mapStructVersion = environment.version();
     }
 
     @Override
@@ -157,25 +177,120 @@ PsiElement resolveInternal(@NotNull String value, @NotNull PsiMethod mappingMeth
     @NotNull
     @Override
     Object[] getVariantsInternal(@NotNull PsiType psiType) {
+        return asLookup(
+            findUnmappedAccessors( psiType ),
+            MapstructTargetReference::memberPsiType
+        );
+    }
 
+    @Override
+    void addVariantsInternal(@NotNull PsiType psiType, @NotNull CompletionResultSet result) {
+        addLookups(
+            findUnmappedAccessors( psiType ),
+            MapstructTargetReference::memberPsiType,
+            result
+        );
+    }
+
+    /**
+     * Find the public write accessors of the {@code psiType} that are not yet mapped in the mapping method.
+     *
+     * @param psiType the type for which the accessors are needed
+     *
+     * @return the accessors that are not yet mapped
+     */
+    @NotNull
+    private Map<String, Pair<? extends PsiElement, PsiSubstitutor>> findUnmappedAccessors(@NotNull PsiType psiType) {
         PsiMethod mappingMethod = getMappingMethod();
+        if ( mappingMethod == null ) {
+            return publicWriteAccessors( psiType, mapStructVersion, mapstructUtil, null );
+        }
 
-        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors = publicWriteAccessors(
-            psiType,
-            mapStructVersion,
-            mapstructUtil,
-            mappingMethod
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors = new LinkedHashMap<>(
+            findPublicWriteAccessors( psiType, mappingMethod )
         );
+        findAllDefinedMappingTargets( mappingMethod ).forEach( accessors::remove );
+        return Collections.unmodifiableMap( accessors );
+    }
 
-        if ( mappingMethod != null ) {
-            Stream<String> allDefinedMappingTargets = findAllDefinedMappingTargets( mappingMethod );
-            allDefinedMappingTargets.forEach( accessors::remove );
+    /**
+     * Find the public write accessors of the {@code psiType}. Every keystroke in the literal changes the PSI, so the
+     * accessors are cached on the target class, per type and builder usage, and only depend on the files that declare
+     * them. This way another completion in the same literal, e.g. with a longer prefix, only filters the cached
+     * accessors.
+     * <p>
+     * Only the accessors of physical classes are cached. The classes in the file that is being completed are part of
+     * the completion copy, their accessors are computed every time.
+     */
+    @NotNull
+    private Map<String, Pair<? extends PsiElement, PsiSubstitutor>> findPublicWriteAccessors(
+        @NotNull PsiType psiType, @NotNull PsiMethod mappingMethod) {
+        PsiClass psiClass = PsiUtil.resolveClassInType( psiType );
+        if ( psiClass == null || !psiClass.isPhysical() ) {
+            return publicWriteAccessors( psiType, mapStructVersion, mapstructUtil, mappingMethod );
         }
 
-        return asLookup(
-            accessors,
-            MapstructTargetReference::memberPsiType
+        ConcurrentMap<AccessorsKey, CachedValue<Map<String, Pair<? extends PsiElement, PsiSubstitutor>>>> cache =
+            CachedValuesManager.getCachedValue( psiClass, TARGET_ACCESSORS_KEY, () -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<>(),
+                SourceUtils.hierarchyDependencies( psiClass )
+            ) );
+
+        AccessorsKey key = new AccessorsKey(
+            psiType.getCanonicalText(),
+            isBuilderEnabled( mapStructVersion, mappingMethod ),
+            mapStructVersion,
+            mapstructUtil
         );
+        return cache.computeIfAbsent( key, accessorsKey -> createCachedAccessors( psiClass, accessorsKey ) )
+            .getValue();
+    }
+
+    /**
+     * Only the text of the type is kept, the type itself might come from the completion copy of the mapper.
+     */
+    @NotNull
+    private static CachedValue<Map<String, Pair<? extends PsiElement, PsiSubstitutor>>> createCachedAccessors(
+        @NotNull PsiClass psiClass, @NotNull AccessorsKey key) {
+        return CachedValuesManager.getManager( psiClass.getProject() ).createCachedValue( () -> {
+            PsiType psiType = JavaPsiFacade.getElementFactory( psiClass.getProject() )
+                .createTypeFromText( key.typeText(), psiClass );
+            Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors =
+                publicWriteAccessors( psiType, key.mapStructVersion(), key.mapstructUtil(), key.builderEnabled() );
+            return CachedValueProvider.Result.create( accessors, accessorsDependencies( psiClass, accessors ) );
+        }, false );
+    }
+
+    /**
+     * The dependencies of the accessors are the files of the class hierarchy and of the classes that declare the
+     * accessors (e.g. a builder). When an accessor is not declared in a physical file any PSI modification is used
+     * instead.
+     */
+    @NotNull
+    private static Object[] accessorsDependencies(@NotNull PsiClass psiClass,
+        @NotNull Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors) {
+        Set<Object> dependencies = new LinkedHashSet<>();
+        dependencies.addAll( Arrays.asList( SourceUtils.hierarchyDependencies( psiClass ) ) );
+        for ( Pair<? extends PsiElement, PsiSubstitutor> accessor : accessors.values() ) {
+            PsiElement element = accessor.getFirst();
+            PsiFile containingFile = element.getContainingFile();
+            if ( containingFile == null || !element.isPhysical() ) {
+                return new Object[] { PsiModificationTracker.getInstance( psiClass.getProject() ) };
+            }
+            PsiClass containingClass = PsiTreeUtil.getParentOfType( element, PsiClass.class, false );
+            if ( containingClass != null && containingClass != psiClass ) {
+                dependencies.addAll( Arrays.asList( SourceUtils.hierarchyDependencies( containingClass ) ) );
+            }
+            else {
+                dependencies.add( containingFile );
+            }
+        }
+
+        return dependencies.toArray();
+    }
+
+    private record AccessorsKey(@NotNull String typeText, boolean builderEnabled,
+                                @NotNull MapStructVersion mapStructVersion, @NotNull MapstructUtil mapstructUtil) {
     }
 
     /**
@@ -186,10 +301,7 @@ Object[] getVariantsInternal(@NotNull PsiType psiType) {
      * @return see description
      */
     private Stream<String> findAllDefinedMappingTargets(@NotNull PsiMethod method) {
-        return findAllDefinedMappingAnnotations( method, mapStructVersion )
-            .map( psiAnnotation -> AnnotationUtil.getDeclaredStringAttributeValue( psiAnnotation, "target" ) )
-            .filter( Objects::nonNull )
-            .filter( s -> !s.isEmpty() );
+        return TargetUtils.findAllDefinedMappingTargets( method, mapStructVersion );
     }
 
     @NotNull
@@ -199,6 +311,32 @@ Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod) {
         return targetType == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( targetType );
     }
 
+    @Override
+    void addVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull CompletionResultSet result) {
+        PsiType targetType = getRelevantType( mappingMethod );
+        if ( targetType != null ) {
+            addVariantsInternal( targetType, result );
+        }
+    }
+
+    @Nullable
+    @Override
+    PsiType nestedPathRootType(@NotNull PsiMethod mappingMethod) {
+        return getRelevantType( mappingMethod );
+    }
+
+    @NotNull
+    @Override
+    Map<String, Pair<? extends PsiElement, PsiSubstitutor>> nestedPathAccessors(@NotNull PsiType psiType) {
+        return publicWriteAccessors( psiType, mapStructVersion, mapstructUtil, getMappingMethod() );
+    }
+
+    @NotNull
+    @Override
+    Function<PsiElement, PsiType> nestedPathTypeMapper() {
+        return MapstructTargetReference::memberPsiType;
+    }
+
     @Nullable
     @Override
     PsiType resolvedType() {
@@ -6,20 +6,19 @@
 package org.mapstruct.intellij.codeinsight.references;
 
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
-import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.completion.CompletionUtil;
+import com.intellij.psi.ElementManipulators;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiEnumConstant;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReference;
 import org.jetbrains.annotations.NotNull;
-import org.mapstruct.intellij.util.MapstructUtil;
-import org.mapstruct.intellij.util.ValueMappingUtils;
 
 import static org.mapstruct.intellij.util.SourceUtils.getParameterClass;
+import static org.mapstruct.intellij.util.ValueMappingUtils.findDefinedValueMappingSources;
 
 /**
  * Reference for {@link org.mapstruct.ValueMapping#source()}.
@@ -42,16 +41,18 @@ PsiClass determineEnumClass(@NotNull PsiMethod mappingMethod) {
 
     @NotNull
     @Override
-    Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull PsiClass sourceClass) {
-        Set<String> alreadyDefinedValues = ValueMappingUtils.findAllDefinedValueMappingSources( mappingMethod )
-            .collect( Collectors.toSet() );
-
-        return Stream.of( sourceClass.getFields() )
-            .filter( PsiEnumConstant.class::isInstance )
-            .map( PsiEnumConstant.class::cast )
-            .filter( enumConstant -> !alreadyDefinedValues.contains( enumConstant.getName() ) )
-            .map( MapstructUtil::asLookup )
-            .toArray( LookupElement[]::new );
+    Predicate<PsiEnumConstant> variantFilter(@NotNull PsiMethod mappingMethod) {
+        // Completion works on a copy of the file, the defined sources are cached for the original method. The value
+        // that is being completed is not considered as already defined, outside of completion it is
+        Set<String> alreadyDefinedValues = findDefinedValueMappingSources(
+            CompletionUtil.getOriginalOrSelf( mappingMethod )
+        );
+        PsiElement originalElement = CompletionUtil.getOriginalElement( getElement() );
+        String currentValue = originalElement == null ? null : ElementManipulators.getValueText( originalElement );
+        return enumConstant -> {
+            String name = enumConstant.getName();
+            return name.equals( currentValue ) || !alreadyDefinedValues.contains( name );
+        };
     }
 
     /**
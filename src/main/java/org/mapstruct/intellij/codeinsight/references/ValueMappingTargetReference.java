@@ -5,20 +5,14 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
-import java.util.stream.Stream;
-
-import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiEnumConstant;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.mapstruct.intellij.util.MapstructUtil.asLookup;
-
 /**
  * Reference for {@link org.mapstruct.ValueMapping#target()}.
  *
@@ -38,15 +32,6 @@ PsiClass determineEnumClass(@NotNull PsiMethod mappingMethod) {
         return methodReturnClass( mappingMethod );
     }
 
-    @NotNull
-    @Override
-    Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull PsiClass targetClass) {
-        return Stream.of( targetClass.getFields() )
-            .filter( psiField -> psiField instanceof PsiEnumConstant )
-            .map( psiEnumConstant -> asLookup( (PsiEnumConstant) psiEnumConstant ) )
-            .toArray( LookupElement[]::new );
-    }
-
     /**
      * @param psiLiteral for which references need to be created
      *
@@ -6,20 +6,27 @@
 package org.mapstruct.intellij.expression;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.lang.ASTNode;
 import com.intellij.lang.injection.MultiHostInjector;
 import com.intellij.lang.injection.MultiHostRegistrar;
 import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.patterns.StandardPatterns;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.JavaTokenType;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiAnnotationParameterList;
@@ -28,7 +35,9 @@
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
 import com.intellij.psi.PsiLanguageInjectionHost;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiMethod;
@@ -38,9 +47,15 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
 import com.intellij.psi.impl.source.resolve.reference.ReferenceProvidersRegistry;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.util.MapstructElementUtils;
 import org.mapstruct.intellij.util.MapstructUtil;
 
@@ -52,6 +67,10 @@ public class JavaExpressionInjector implements MultiHostInjector {
     public static final Pattern JAVA_EXPRESSION = Pattern.compile( "^(\"|\"{3})\\s*java\\((.*)\\)\\s*\\1$",
             Pattern.DOTALL );
 
+    private static final Key<CachedValue<CachedPrefix>> PREFIX_KEY = Key.create( "MapStructJavaExpressionPrefix" );
+
+    private static final Pattern IMPORT = Pattern.compile( "^import ([\\w.$]+);$", Pattern.MULTILINE );
+
     private static final ElementPattern<PsiElement> PATTERN =
         StandardPatterns.or(
             MapstructElementUtils.mappingElementPattern( "expression" ),
@@ -149,7 +168,7 @@ private void appendNesting(StringBuilder sb, int level) {
     @Override
     public void getLanguagesToInject(@NotNull MultiHostRegistrar registrar, @NotNull PsiElement context) {
 
-        if ( PATTERN.accepts( context ) && context instanceof PsiLiteralExpression &&
+        if ( mayBeJavaExpression( context ) && PATTERN.accepts( context ) &&
             JAVA_EXPRESSION.matcher( context.getText() ).matches() ) {
 
             // Context is the PsiLiteralExpression
@@ -168,35 +187,8 @@ public void getLanguagesToInject(@NotNull MultiHostRegistrar registrar, @NotNull
             if ( annotationParameterList == null ) {
                 return;
             }
-            PsiType targetType = null;
-            for ( PsiNameValuePair attribute : annotationParameterList.getAttributes() ) {
-                if ( "target".equals( attribute.getAttributeName() ) ) {
-                    PsiAnnotationMemberValue attributeValue = attribute.getValue();
-                    if ( attributeValue != null ) {
-                        PsiReference[] references = ReferenceProvidersRegistry.getReferencesFromProviders(
-                            attributeValue );
-                        if ( references.length > 0 ) {
-                            PsiElement resolved = references[0].resolve();
-                            if ( resolved instanceof PsiMethod resolvedPsiMethod ) {
-                                PsiParameter[] psiParameters =
-                                        resolvedPsiMethod.getParameterList().getParameters();
-                                if ( psiParameters.length > 0 ) {
-                                    targetType = psiParameters[0].getType();
-                                }
-                            }
-                            else if ( resolved instanceof PsiParameter resolvedPsiParameter ) {
-                                targetType = resolvedPsiParameter.getType();
-                            }
-                            else if ( resolved instanceof PsiField resolvedPsiField ) {
-                                targetType = resolvedPsiField.getType();
-                            }
-                        }
-                    }
-                    break;
-                }
-            }
-
-            if ( targetType == null ) {
+            PsiAnnotationMemberValue targetValue = findTargetValue( annotationParameterList );
+            if ( targetValue == null ) {
                 return;
             }
 
@@ -205,86 +197,286 @@ else if ( resolved instanceof PsiField resolvedPsiField ) {
                 return;
             }
 
-            PsiClass mapperClass = PsiTreeUtil.getParentOfType( method, PsiClass.class );
-            if ( mapperClass == null ) {
+            String prefix = getPrefix( method, targetValue );
+            if ( prefix == null ) {
                 return;
             }
 
-            SortedSet<String> imports = new TreeSet<>();
-            StringBuilder prefixBuilder = new StringBuilder();
-
-            prefixBuilder.append( "\n@SuppressWarnings(\"unused\")" );
-            prefixBuilder.append( "\nabstract class " );
-            appendClassImpl( prefixBuilder, imports, mapperClass );
-            prefixBuilder.append( "\n" );
-            appendNesting( prefixBuilder, 1 );
-            prefixBuilder.append( mapperClass.isInterface() ? "implements " : "extends " );
-            appendClassSimple( prefixBuilder, imports, mapperClass );
-            prefixBuilder.append( " {\n\n" );
-            appendNesting( prefixBuilder, 1 );
-            if ( appendTypeParametersHard( prefixBuilder, imports, method.getTypeParameters() ) ) {
-                prefixBuilder.append( " " );
+            registrar.startInjecting( JavaLanguage.INSTANCE )
+                .addPlace(
+                    prefix,
+                    ";\n    }\n}",
+                    (PsiLanguageInjectionHost) context,
+                    getTextRange( context )
+                )
+                .doneInjecting();
+        }
+    }
+
+    /**
+     * Get the prefix of the synthetic class in which the java expression is injected. The injector is called again
+     * for every change of the host, so the prefix is cached on the target of the mapping, and is only built again
+     * when its inputs changed. The inputs are the text of the target, of the mapper declaration, the signature of the
+     * method and the imports of the file, and the files that declare the classes used in the prefix. Editing the java
+     * expression itself does not change any of them.
+     *
+     * @param method the mapping method
+     * @param targetValue the value of the {@code target} attribute of the mapping
+     *
+     * @return the prefix of the synthetic class, or {@code null} if the java expression cannot be injected
+     */
+    @Nullable
+    private String getPrefix(@NotNull PsiMethod method, @NotNull PsiAnnotationMemberValue targetValue) {
+        PsiClass mapperClass = PsiTreeUtil.getParentOfType( method, PsiClass.class );
+        PsiFile mapperFile = method.getContainingFile();
+        if ( mapperClass == null || mapperFile == null ) {
+            return null;
+        }
+
+        CachedValueProvider<CachedPrefix> provider = () -> computePrefix( targetValue );
+        CachedPrefix cachedPrefix = CachedValuesManager.getCachedValue( targetValue, PREFIX_KEY, provider );
+        if ( !cachedPrefix.inputs().equals( prefixInputs( mapperFile, mapperClass, method, targetValue ) ) ) {
+            targetValue.putUserData( PREFIX_KEY, null );
+            cachedPrefix = CachedValuesManager.getCachedValue( targetValue, PREFIX_KEY, provider );
+        }
+
+        return cachedPrefix.prefix();
+    }
+
+    @NotNull
+    private CachedValueProvider.Result<CachedPrefix> computePrefix(@NotNull PsiAnnotationMemberValue targetValue) {
+        PsiMethod method = PsiTreeUtil.getParentOfType( targetValue, PsiMethod.class );
+        PsiClass mapperClass = PsiTreeUtil.getParentOfType( method, PsiClass.class );
+        PsiFile mapperFile = targetValue.getContainingFile();
+        PsiModificationTracker modificationTracker = PsiModificationTracker.getInstance( targetValue.getProject() );
+        if ( method == null || mapperClass == null || mapperFile == null ) {
+            return CachedValueProvider.Result.create( new CachedPrefix( "", null ), modificationTracker );
+        }
+
+        PsiElement target = resolveTarget( targetValue );
+        String prefix = buildPrefix( mapperClass, method, targetType( target ) );
+        return CachedValueProvider.Result.create(
+            new CachedPrefix( prefixInputs( mapperFile, mapperClass, method, targetValue ), prefix ),
+            prefixDependencies( mapperFile, mapperClass, method, targetValue, target, prefix )
+        );
+    }
+
+    @NotNull
+    private static String prefixInputs(@NotNull PsiFile mapperFile, @NotNull PsiClass mapperClass,
+                                       @NotNull PsiMethod method, @NotNull PsiAnnotationMemberValue targetValue) {
+        StringBuilder inputs = new StringBuilder();
+        appendText( inputs, targetValue );
+        if ( mapperFile instanceof PsiJavaFile mapperJavaFile ) {
+            inputs.append( mapperJavaFile.getPackageName() ).append( '\n' );
+            appendText( inputs, mapperJavaFile.getImportList() );
+        }
+        inputs.append( mapperClass.isInterface() ).append( '\n' );
+        appendText( inputs, mapperClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN ) );
+        appendText( inputs, mapperClass.getTypeParameterList() );
+        appendText( inputs, method.getTypeParameterList() );
+        appendText( inputs, method.getReturnTypeElement() );
+        appendText( inputs, method.getParameterList() );
+        return inputs.toString();
+    }
+
+    private static void appendText(@NotNull StringBuilder sb, @Nullable PsiElement element) {
+        if ( element != null ) {
+            sb.append( element.getText() );
+        }
+        sb.append( '\n' );
+    }
+
+    /**
+     * @return the files that declare the target, the returned class and the classes imported by the {@code prefix}.
+     * Any PSI modification is used instead, if the prefix is for a nested target, which also depends on the types of
+     * the previous segments, or depends on classes of the mapper file other than the mapper itself
+     */
+    @NotNull
+    private static Object[] prefixDependencies(@NotNull PsiFile mapperFile, @NotNull PsiClass mapperClass,
+                                               @NotNull PsiMethod method, @NotNull PsiAnnotationMemberValue targetValue,
+                                               @Nullable PsiElement target, @Nullable String prefix) {
+        PsiModificationTracker modificationTracker = PsiModificationTracker.getInstance( mapperClass.getProject() );
+        if ( prefix == null || targetValue.getText().contains( "." ) ) {
+            return new Object[] { modificationTracker };
+        }
+
+        Set<PsiFile> dependencies = new LinkedHashSet<>();
+        if ( target != null ) {
+            dependencies.add( target.getContainingFile() );
+        }
+
+        PsiClass returnedClass = PsiUtil.resolveClassInType( method.getReturnType() );
+        if ( returnedClass != null ) {
+            dependencies.add( returnedClass.getContainingFile() );
+        }
+
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( mapperClass.getProject() );
+        Matcher importMatcher = IMPORT.matcher( prefix );
+        while ( importMatcher.find() ) {
+            String qualifiedName = importMatcher.group( 1 );
+            if ( qualifiedName.equals( mapperClass.getQualifiedName() ) ) {
+                continue;
             }
-            appendType( prefixBuilder, imports, targetType );
-            prefixBuilder.append( " __test__(\n" );
 
-            PsiParameter[] parameters = method.getParameterList().getParameters();
-            for ( int i = 0; i < parameters.length; i++ ) {
-                if ( i != 0 ) {
-                    prefixBuilder.append( ",\n" );
-                }
+            PsiClass importedClass = javaPsiFacade.findClass( qualifiedName, mapperClass.getResolveScope() );
+            if ( importedClass != null ) {
+                dependencies.add( importedClass.getContainingFile() );
+            }
+        }
 
-                PsiParameter parameter = parameters[i];
-                PsiType parameterType = parameter.getType();
-                for ( PsiAnnotation a : parameter.getAnnotations() ) {
-                    appendNesting( prefixBuilder, 2 );
-                    prefixBuilder.append( a.getText() ).append( "\n" );
-                }
-                appendNesting( prefixBuilder, 2 );
-                appendType( prefixBuilder, imports, parameterType );
-                prefixBuilder.append( " " ).append( parameter.getName() );
+        dependencies.remove( null );
+        return dependencies.contains( mapperFile ) ? new Object[] { modificationTracker } : dependencies.toArray();
+    }
+
+    @Nullable
+    private static PsiElement resolveTarget(@NotNull PsiAnnotationMemberValue targetValue) {
+        PsiReference[] references = ReferenceProvidersRegistry.getReferencesFromProviders( targetValue );
+        return references.length > 0 ? references[0].resolve() : null;
+    }
+
+    @Nullable
+    private static PsiType targetType(@Nullable PsiElement target) {
+        if ( target instanceof PsiMethod resolvedPsiMethod ) {
+            PsiParameter[] psiParameters = resolvedPsiMethod.getParameterList().getParameters();
+            if ( psiParameters.length > 0 ) {
+                return psiParameters[0].getType();
+            }
+        }
+        else if ( target instanceof PsiParameter resolvedPsiParameter ) {
+            return resolvedPsiParameter.getType();
+        }
+        else if ( target instanceof PsiField resolvedPsiField ) {
+            return resolvedPsiField.getType();
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private String buildPrefix(@NotNull PsiClass mapperClass, @NotNull PsiMethod method, @Nullable PsiType targetType) {
+        if ( targetType == null ) {
+            return null;
+        }
+
+        SortedSet<String> imports = new TreeSet<>();
+        StringBuilder prefixBuilder = new StringBuilder();
+
+        prefixBuilder.append( "\n@SuppressWarnings(\"unused\")" );
+        prefixBuilder.append( "\nabstract class " );
+        appendClassImpl( prefixBuilder, imports, mapperClass );
+        prefixBuilder.append( "\n" );
+        appendNesting( prefixBuilder, 1 );
+        prefixBuilder.append( mapperClass.isInterface() ? "implements " : "extends " );
+        appendClassSimple( prefixBuilder, imports, mapperClass );
+        prefixBuilder.append( " {\n\n" );
+        appendNesting( prefixBuilder, 1 );
+        if ( appendTypeParametersHard( prefixBuilder, imports, method.getTypeParameters() ) ) {
+            prefixBuilder.append( " " );
+        }
+        appendType( prefixBuilder, imports, targetType );
+        prefixBuilder.append( " __test__(\n" );
+
+        PsiParameter[] parameters = method.getParameterList().getParameters();
+        for ( int i = 0; i < parameters.length; i++ ) {
+            if ( i != 0 ) {
+                prefixBuilder.append( ",\n" );
             }
 
-            prefixBuilder.append( "\n" );
-            appendNesting( prefixBuilder, 1 );
-            prefixBuilder.append( ") {\n" );
+            PsiParameter parameter = parameters[i];
+            PsiType parameterType = parameter.getType();
+            for ( PsiAnnotation a : parameter.getAnnotations() ) {
+                appendNesting( prefixBuilder, 2 );
+                prefixBuilder.append( a.getText() ).append( "\n" );
+            }
             appendNesting( prefixBuilder, 2 );
-            prefixBuilder.append( "return " );
+            appendType( prefixBuilder, imports, parameterType );
+            prefixBuilder.append( " " ).append( parameter.getName() );
+        }
 
-            PsiAnnotation mapper = mapperClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN );
-            if ( mapper != null ) {
-                for ( PsiNameValuePair attribute : mapper.getParameterList().getAttributes() ) {
-                    if ( "imports".equals( attribute.getName() ) ) {
-                        for ( PsiAnnotationMemberValue importValue : AnnotationUtil.arrayAttributeValues(
-                            attribute.getValue() ) ) {
+        prefixBuilder.append( "\n" );
+        appendNesting( prefixBuilder, 1 );
+        prefixBuilder.append( ") {\n" );
+        appendNesting( prefixBuilder, 2 );
+        prefixBuilder.append( "return " );
 
-                            if ( importValue instanceof PsiJavaCodeReferenceElement importJavaCodeReferenceElement ) {
-                                imports.add( importJavaCodeReferenceElement.getQualifiedName() );
-                            }
-                            else if ( importValue instanceof PsiClassObjectAccessExpression
-                                    importClassObjectAccessExpression ) {
-                                PsiJavaCodeReferenceElement referenceElement =
-                                        importClassObjectAccessExpression.getOperand()
-                                        .getInnermostComponentReferenceElement();
-                                if ( referenceElement != null ) {
-                                    imports.add( referenceElement.getQualifiedName() );
-                                }
+        PsiAnnotation mapper = mapperClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN );
+        if ( mapper != null ) {
+            for ( PsiNameValuePair attribute : mapper.getParameterList().getAttributes() ) {
+                if ( "imports".equals( attribute.getName() ) ) {
+                    for ( PsiAnnotationMemberValue importValue : AnnotationUtil.arrayAttributeValues(
+                        attribute.getValue() ) ) {
+
+                        if ( importValue instanceof PsiJavaCodeReferenceElement importJavaCodeReferenceElement ) {
+                            imports.add( importJavaCodeReferenceElement.getQualifiedName() );
+                        }
+                        else if ( importValue instanceof PsiClassObjectAccessExpression
+                                importClassObjectAccessExpression ) {
+                            PsiJavaCodeReferenceElement referenceElement =
+                                    importClassObjectAccessExpression.getOperand()
+                                    .getInnermostComponentReferenceElement();
+                            if ( referenceElement != null ) {
+                                imports.add( referenceElement.getQualifiedName() );
                             }
                         }
                     }
                 }
             }
+        }
 
-            registrar.startInjecting( JavaLanguage.INSTANCE )
-                .addPlace(
-                    imports.stream().map( imp -> "import " + imp + ";" ).collect( Collectors.joining( "\n", "", "\n" ) )
-                        + prefixBuilder,
-                    ";\n    }\n}",
-                    (PsiLanguageInjectionHost) context,
-                    getTextRange( context )
-                )
-                .doneInjecting();
+        return imports.stream().map( imp -> "import " + imp + ";" ).collect( Collectors.joining( "\n", "", "\n" ) )
+            + prefixBuilder;
+    }
+
+    /**
+     * A prefix of the synthetic class, together with the inputs from the mapper file it was built from.
+     */
+    private record CachedPrefix(@NotNull String inputs, @Nullable String prefix) {
+    }
+
+    @Nullable
+    private static PsiAnnotationMemberValue findTargetValue(@NotNull PsiAnnotationParameterList parameterList) {
+        for ( PsiNameValuePair attribute : parameterList.getAttributes() ) {
+            if ( "target".equals( attribute.getAttributeName() ) ) {
+                return attribute.getValue();
+            }
         }
+
+        return null;
+    }
+
+    /**
+     * A cheap check that is done before the {@link #PATTERN} and the {@link #JAVA_EXPRESSION} are evaluated. The
+     * injector is called for every annotation member value, most of them are not a string literal containing
+     * {@code java(} in one of the expression attributes.
+     *
+     * @param context the annotation member value
+     *
+     * @return {@code false} if the {@code context} cannot be a java expression, {@code true} otherwise
+     */
+    private static boolean mayBeJavaExpression(@NotNull PsiElement context) {
+        if ( !( context instanceof PsiLiteralExpression ) ||
+            !( context.getParent() instanceof PsiNameValuePair nameValuePair ) ) {
+            return false;
+        }
+
+        String attributeName = nameValuePair.getName();
+        if ( !"expression".equals( attributeName ) && !"defaultExpression".equals( attributeName ) &&
+            !"conditionExpression".equals( attributeName ) ) {
+            return false;
+        }
+
+        // The literal has a single token, its chars can be checked without creating the text of the literal
+        ASTNode literalToken = context.getNode().getFirstChildNode();
+        if ( literalToken == null ) {
+            return false;
+        }
+
+        IElementType tokenType = literalToken.getElementType();
+        if ( tokenType != JavaTokenType.STRING_LITERAL && tokenType != JavaTokenType.TEXT_BLOCK_LITERAL ) {
+            return false;
+        }
+
+        return StringUtil.contains( literalToken.getChars(), "java(" );
     }
 
     @NotNull
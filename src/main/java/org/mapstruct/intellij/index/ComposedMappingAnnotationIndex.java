@@ -0,0 +1,300 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.codeInsight.MetaAnnotationUtil;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPINGS_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
+
+/**
+ * Index of the annotations that are placed on annotation type declarations. The key is the short name of the
+ * annotation used on an {@code @interface}. The index is used to find all composed mapping annotations, i.e.
+ * annotations that are (transitively) annotated with {@link org.mapstruct.Mapping} or {@link org.mapstruct.Mappings},
+ * without walking the annotations of every mapping method.
+ */
+public class ComposedMappingAnnotationIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create( "org.mapstruct.intellij.ComposedMappingAnnotationIndex" );
+
+    private static final String ANNOTATION_TYPE_DECLARATION = "@interface";
+
+    /**
+     * The annotations that are commonly placed on annotation types and can't make them a composed mapping annotation,
+     * {@link org.mapstruct.Mapping} and {@link org.mapstruct.Mappings} are the roots of the search.
+     */
+    private static final Set<String> NON_COMPOSING_ANNOTATIONS = Set.of(
+        StringUtil.getShortName( MAPPING_ANNOTATION_FQN ),
+        StringUtil.getShortName( MAPPINGS_ANNOTATION_FQN ),
+        "Documented",
+        "Inherited",
+        "Repeatable",
+        "Retention",
+        "Target"
+    );
+
+    private static final Key<CachedValue<Set<String>>> COMPOSED_ANNOTATIONS_KEY =
+        Key.create( "MapStructComposedMappingAnnotations" );
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            if ( !StringUtil.contains( inputData.getContentAsText(), ANNOTATION_TYPE_DECLARATION ) ) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, Void> result = new HashMap<>();
+            for ( PsiClass annotationType : findAnnotationTypes( inputData.getPsiFile() ) ) {
+                for ( PsiAnnotation annotation : getAnnotations( annotationType ) ) {
+                    String annotationName = getShortName( annotation );
+                    if ( annotationName != null ) {
+                        result.put( annotationName, null );
+                    }
+                }
+            }
+
+            return result;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param project the project
+     *
+     * @return a tracker that only changes when the composed mapping annotations of the project change
+     */
+    @NotNull
+    public static ModificationTracker getModificationTracker(@NotNull Project project) {
+        return ComposedMappingAnnotationsTracker.getInstance( project );
+    }
+
+    /**
+     * Find the fully qualified names of all Java source annotations that are (transitively) annotated with
+     * {@link org.mapstruct.Mapping} or {@link org.mapstruct.Mappings}, directly or through a compiled or Kotlin
+     * composed mapping annotation. The compiled and Kotlin annotations themselves are not part of the index.
+     *
+     * @param project the project
+     *
+     * @return the qualified names of the composed mapping annotations, or {@code null} if the indices are not ready
+     */
+    @Nullable
+    public static Set<String> findComposedMappingAnnotations(@NotNull Project project) {
+        if ( DumbService.isDumb( project ) ) {
+            return null;
+        }
+
+        return CachedValuesManager.getManager( project ).getCachedValue( project, COMPOSED_ANNOTATIONS_KEY, () -> {
+            Set<String> composedAnnotations = computeComposedMappingAnnotations( project );
+            ComposedMappingAnnotationsTracker.getInstance( project ).update( composedAnnotations );
+            return CachedValueProvider.Result.create(
+                composedAnnotations,
+                PsiModificationTracker.getInstance( project ).forLanguage( JavaLanguage.INSTANCE ),
+                ProjectRootManager.getInstance( project )
+            );
+        }, false );
+    }
+
+    @NotNull
+    private static Set<String> computeComposedMappingAnnotations(@NotNull Project project) {
+        PsiManager psiManager = PsiManager.getInstance( project );
+        GlobalSearchScope scope = GlobalSearchScope.allScope( project );
+        Set<String> composedAnnotations = new HashSet<>();
+        Set<String> processedNames = new HashSet<>();
+        Deque<String> names = new ArrayDeque<>();
+        names.add( StringUtil.getShortName( MAPPING_ANNOTATION_FQN ) );
+        names.add( StringUtil.getShortName( MAPPINGS_ANNOTATION_FQN ) );
+        for ( PsiClass annotationType : findAnnotationTypesComposedThroughNonIndexedAnnotations( project, scope ) ) {
+            if ( composedAnnotations.add( annotationType.getQualifiedName() ) ) {
+                names.add( annotationType.getName() );
+            }
+        }
+
+        while ( !names.isEmpty() ) {
+            ProgressManager.checkCanceled();
+            String name = names.poll();
+            if ( !processedNames.add( name ) ) {
+                continue;
+            }
+
+            for ( VirtualFile file : FileBasedIndex.getInstance().getContainingFiles( NAME, name, scope ) ) {
+                for ( PsiClass annotationType : findAnnotationTypes( psiManager.findFile( file ) ) ) {
+                    String qualifiedName = annotationType.getQualifiedName();
+                    if ( qualifiedName != null && isAnnotatedWith( annotationType, name ) &&
+                        composedAnnotations.add( qualifiedName ) ) {
+                        names.add( annotationType.getName() );
+                    }
+                }
+            }
+        }
+
+        return Collections.unmodifiableSet( composedAnnotations );
+    }
+
+    /**
+     * The search starting from {@link org.mapstruct.Mapping} and {@link org.mapstruct.Mappings} only walks the Java
+     * sources. The Java source annotation types that are annotated with a compiled or Kotlin composed mapping
+     * annotation are the additional starting points of the search.
+     */
+    @NotNull
+    private static List<PsiClass> findAnnotationTypesComposedThroughNonIndexedAnnotations(
+        @NotNull Project project, @NotNull GlobalSearchScope scope) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        List<String> names = new ArrayList<>();
+        fileBasedIndex.processAllKeys( NAME, name -> {
+            if ( !NON_COMPOSING_ANNOTATIONS.contains( name ) ) {
+                names.add( name );
+            }
+            return true;
+        }, scope, null );
+
+        PsiManager psiManager = PsiManager.getInstance( project );
+        List<PsiClass> annotationTypes = new ArrayList<>();
+        for ( String name : names ) {
+            ProgressManager.checkCanceled();
+            for ( VirtualFile file : fileBasedIndex.getContainingFiles( NAME, name, scope ) ) {
+                for ( PsiClass annotationType : findAnnotationTypes( psiManager.findFile( file ) ) ) {
+                    if ( annotationType.getQualifiedName() != null &&
+                        isAnnotatedWithNonIndexedComposedMappingAnnotation( annotationType, name ) ) {
+                        annotationTypes.add( annotationType );
+                    }
+                }
+            }
+        }
+
+        return annotationTypes;
+    }
+
+    private static boolean isAnnotatedWithNonIndexedComposedMappingAnnotation(@NotNull PsiClass annotationType,
+                                                                              @NotNull String annotationName) {
+        for ( PsiAnnotation annotation : getAnnotations( annotationType ) ) {
+            if ( !annotationName.equals( getShortName( annotation ) ) ) {
+                continue;
+            }
+
+            PsiClass annotationClass = annotation.resolveAnnotationType();
+            if ( annotationClass != null && IndexUtils.findIndexedJavaFile( annotationClass ) == null &&
+                MetaAnnotationUtil.isMetaAnnotated(
+                    annotationClass,
+                    List.of( MAPPING_ANNOTATION_FQN, MAPPINGS_ANNOTATION_FQN )
+                ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private static List<PsiClass> findAnnotationTypes(@Nullable PsiFile file) {
+        if ( !( file instanceof PsiJavaFile javaFile ) ) {
+            return Collections.emptyList();
+        }
+
+        // Only the class declarations are visited, the code blocks of the methods don't need to be parsed
+        List<PsiClass> annotationTypes = new ArrayList<>();
+        Deque<PsiClass> classes = new ArrayDeque<>( Arrays.asList( javaFile.getClasses() ) );
+        while ( !classes.isEmpty() ) {
+            PsiClass psiClass = classes.poll();
+            if ( psiClass.isAnnotationType() ) {
+                annotationTypes.add( psiClass );
+            }
+            classes.addAll( Arrays.asList( psiClass.getInnerClasses() ) );
+        }
+
+        return annotationTypes;
+    }
+
+    private static boolean isAnnotatedWith(@NotNull PsiClass annotationType, @NotNull String annotationName) {
+        for ( PsiAnnotation annotation : getAnnotations( annotationType ) ) {
+            if ( annotationName.equals( getShortName( annotation ) ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private static PsiAnnotation[] getAnnotations(@NotNull PsiClass annotationType) {
+        PsiModifierList modifierList = annotationType.getModifierList();
+        return modifierList == null ? PsiAnnotation.EMPTY_ARRAY : modifierList.getAnnotations();
+    }
+
+    @Nullable
+    private static String getShortName(@NotNull PsiAnnotation annotation) {
+        PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+        return referenceElement == null ? null : referenceElement.getReferenceName();
+    }
+}
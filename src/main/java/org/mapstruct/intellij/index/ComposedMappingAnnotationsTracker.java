@@ -0,0 +1,51 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.Set;
+
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ModificationTracker} that only changes when the set of composed mapping annotations of the project
+ * changes. Caches that depend on it are not dropped when an unrelated Java file is changed or reindexed.
+ * <p>
+ * The tracker itself does no index work. The count is increased when the composed mapping annotations are
+ * recomputed (lazily, by {@link ComposedMappingAnnotationIndex#findComposedMappingAnnotations(Project)} after a Java
+ * change) and differ from the previously computed ones.
+ */
+@Service( Service.Level.PROJECT )
+public final class ComposedMappingAnnotationsTracker implements ModificationTracker {
+
+    private long modificationCount;
+    private Set<String> composedMappingAnnotations;
+
+    @NotNull
+    public static ComposedMappingAnnotationsTracker getInstance(@NotNull Project project) {
+        return project.getService( ComposedMappingAnnotationsTracker.class );
+    }
+
+    @Override
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Called every time the composed mapping annotations are computed.
+     *
+     * @param composedMappingAnnotations the computed composed mapping annotations
+     */
+    synchronized void update(@NotNull Set<String> composedMappingAnnotations) {
+        if ( this.composedMappingAnnotations != null &&
+            !this.composedMappingAnnotations.equals( composedMappingAnnotations ) ) {
+            modificationCount++;
+        }
+        this.composedMappingAnnotations = composedMappingAnnotations;
+    }
+}
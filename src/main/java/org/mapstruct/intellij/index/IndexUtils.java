@@ -0,0 +1,60 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Utils for the MapStruct file based indices.
+ */
+public final class IndexUtils {
+
+    private IndexUtils() {
+    }
+
+    /**
+     * The MapStruct indices only contain the Java source files of the project content and of the libraries. Elements
+     * of other files (compiled and Kotlin elements, non physical copies, scratch files or files in excluded
+     * directories) can't be looked up in them.
+     *
+     * @param element the element
+     *
+     * @return the Java source file of the {@code element} if it is covered by the indices, {@code null} otherwise
+     */
+    @Nullable
+    public static VirtualFile findIndexedJavaFile(@NotNull PsiElement element) {
+        if ( element instanceof PsiCompiledElement ) {
+            return null;
+        }
+
+        PsiFile file = element.getContainingFile();
+        if ( !( file instanceof PsiJavaFile ) || !file.isPhysical() ) {
+            return null;
+        }
+
+        VirtualFile virtualFile = file.getVirtualFile();
+        if ( virtualFile == null ||
+            !FileTypeRegistry.getInstance().isFileOfType( virtualFile, JavaFileType.INSTANCE ) ) {
+            return null;
+        }
+
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance( element.getProject() );
+        if ( !fileIndex.isInContent( virtualFile ) && !fileIndex.isInLibrarySource( virtualFile ) ) {
+            return null;
+        }
+
+        return virtualFile;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+
+/**
+ * Index of the classes annotated with {@link org.mapstruct.Mapper} or {@link org.mapstruct.MapperConfig}. The key is
+ * the short name of the annotation and the value are the qualified names of the annotated classes in the file.
+ * <p>
+ * The indexer can't resolve the annotations, so the returned classes are checked against the real annotation.
+ */
+public class MapperIndex extends FileBasedIndexExtension<String, List<String>> {
+
+    public static final ID<String, List<String>> NAME = ID.create( "org.mapstruct.intellij.MapperIndex" );
+
+    private static final String MAPPER_KEY = StringUtil.getShortName( MAPPER_ANNOTATION_FQN );
+    private static final String MAPPER_CONFIG_KEY = StringUtil.getShortName( MAPPER_CONFIG_ANNOTATION_FQN );
+    private static final String MAPPER_ANNOTATION_TEXT = "@" + MAPPER_KEY;
+
+    @NotNull
+    @Override
+    public ID<String, List<String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<String>, FileContent> getIndexer() {
+        return inputData -> {
+            if ( !mayContainMapperAnnotation( inputData.getContentAsText() ) ) {
+                return Map.of();
+            }
+
+            return indexMapperClasses( inputData.getPsiFile() );
+        };
+    }
+
+    /**
+     * Text based screen of the file content, so that the PSI is only built for files that use one of the
+     * annotations, either with its short name ({@code @Mapper} is a prefix of {@code @MapperConfig}) or with its
+     * qualified name.
+     */
+    private static boolean mayContainMapperAnnotation(@NotNull CharSequence text) {
+        return StringUtil.contains( text, MAPPER_ANNOTATION_TEXT ) ||
+            StringUtil.contains( text, MAPPER_ANNOTATION_FQN );
+    }
+
+    @NotNull
+    private static Map<String, List<String>> indexMapperClasses(@NotNull PsiFile file) {
+        if ( !( file instanceof PsiJavaFile javaFile ) ) {
+            return Map.of();
+        }
+
+        Map<String, List<String>> result = new HashMap<>();
+        // Only the class declarations are visited, the code blocks of the methods don't need to be parsed
+        Deque<PsiClass> classes = new ArrayDeque<>( Arrays.asList( javaFile.getClasses() ) );
+        while ( !classes.isEmpty() ) {
+            PsiClass psiClass = classes.poll();
+            classes.addAll( Arrays.asList( psiClass.getInnerClasses() ) );
+            String qualifiedName = psiClass.getQualifiedName();
+            PsiModifierList modifierList = psiClass.getModifierList();
+            if ( qualifiedName == null || modifierList == null ) {
+                continue;
+            }
+
+            for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+                PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+                String annotationName = referenceElement == null ? null : referenceElement.getReferenceName();
+                if ( MAPPER_KEY.equals( annotationName ) || MAPPER_CONFIG_KEY.equals( annotationName ) ) {
+                    result.computeIfAbsent( annotationName, key -> new ArrayList<>() ).add( qualifiedName );
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<String>> getValueExternalizer() {
+        return StringListExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Find all the classes annotated with {@link org.mapstruct.Mapper} within the {@code scope}.
+     *
+     * @param project the project
+     * @param scope the scope in which the mappers should be searched
+     *
+     * @return the mapper classes
+     */
+    @NotNull
+    public static Collection<PsiClass> findMappers(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        return findClasses( project, scope, MAPPER_KEY, MapstructUtil::isMapper );
+    }
+
+    /**
+     * Find all the classes annotated with {@link org.mapstruct.MapperConfig} within the {@code scope}.
+     *
+     * @param project the project
+     * @param scope the scope in which the mapper configs should be searched
+     *
+     * @return the mapper config classes
+     */
+    @NotNull
+    public static Collection<PsiClass> findMapperConfigs(@NotNull Project project,
+                                                         @NotNull GlobalSearchScope scope) {
+        return findClasses( project, scope, MAPPER_CONFIG_KEY, MapstructUtil::isMapperConfig );
+    }
+
+    /**
+     * Checks if the {@code psiClass} is annotated with {@link org.mapstruct.Mapper}. Java source classes that are not
+     * in the index are rejected without resolving their annotations.
+     *
+     * @param psiClass the class that needs to be checked
+     *
+     * @return {@code true} if the {@code psiClass} is a mapper, {@code false} otherwise
+     */
+    public static boolean isMapper(@Nullable PsiClass psiClass) {
+        return psiClass != null && mayBeIndexedAs( psiClass, MAPPER_KEY ) && MapstructUtil.isMapper( psiClass );
+    }
+
+    /**
+     * Checks if the {@code psiClass} is annotated with {@link org.mapstruct.MapperConfig}. Java source classes that
+     * are not in the index are rejected without resolving their annotations.
+     *
+     * @param psiClass the class that needs to be checked
+     *
+     * @return {@code true} if the {@code psiClass} is a mapper config, {@code false} otherwise
+     */
+    public static boolean isMapperConfig(@Nullable PsiClass psiClass) {
+        return psiClass != null && mayBeIndexedAs( psiClass, MAPPER_CONFIG_KEY ) &&
+            MapstructUtil.isMapperConfig( psiClass );
+    }
+
+    /**
+     * @return {@code false} if the index knows that the {@code psiClass} is not annotated with the annotation of the
+     * {@code key}, {@code true} if it is, or if the index can't be used for the class (local classes, dumb mode, or
+     * classes that are not in an {@link IndexUtils#findIndexedJavaFile indexed Java file})
+     */
+    private static boolean mayBeIndexedAs(@NotNull PsiClass psiClass, @NotNull String key) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( qualifiedName == null ) {
+            return true;
+        }
+
+        VirtualFile virtualFile = IndexUtils.findIndexedJavaFile( psiClass );
+        if ( virtualFile == null ) {
+            return true;
+        }
+
+        Project project = psiClass.getProject();
+        if ( DumbService.isDumb( project ) ) {
+            return true;
+        }
+
+        try {
+            List<String> qualifiedNames = FileBasedIndex.getInstance()
+                .getFileData( NAME, virtualFile, project )
+                .get( key );
+            return qualifiedNames != null && qualifiedNames.contains( qualifiedName );
+        }
+        catch ( IndexNotReadyException e ) {
+            return true;
+        }
+    }
+
+    @NotNull
+    private static Collection<PsiClass> findClasses(@NotNull Project project, @NotNull GlobalSearchScope scope,
+                                                    @NotNull String key, @NotNull Predicate<PsiClass> filter) {
+        Set<String> qualifiedNames = new LinkedHashSet<>();
+        for ( List<String> names : FileBasedIndex.getInstance().getValues( NAME, key, scope ) ) {
+            qualifiedNames.addAll( names );
+        }
+
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( project );
+        Set<PsiClass> classes = new LinkedHashSet<>();
+        for ( String qualifiedName : qualifiedNames ) {
+            for ( PsiClass psiClass : javaPsiFacade.findClasses( qualifiedName, scope ) ) {
+                if ( filter.test( psiClass ) ) {
+                    classes.add( psiClass );
+                }
+            }
+        }
+
+        return classes;
+    }
+}
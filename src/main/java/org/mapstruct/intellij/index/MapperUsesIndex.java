@@ -0,0 +1,289 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassObjectAccessExpression;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapstructAnnotationUtils;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+
+/**
+ * Reverse index of the {@code uses} and {@code config} attributes of {@link org.mapstruct.Mapper} and
+ * {@link org.mapstruct.MapperConfig}. The key is the short name of the referenced class and the value are the
+ * mappers and mapper configs that reference it.
+ * <p>
+ * The indexer can't resolve the references, so the found classes are checked against the resolved attributes.
+ */
+public class MapperUsesIndex extends FileBasedIndexExtension<String, List<MapperUsesIndex.MapperReference>> {
+
+    public static final ID<String, List<MapperReference>> NAME = ID.create( "org.mapstruct.intellij.MapperUsesIndex" );
+
+    private static final String MAPPER_KEY = StringUtil.getShortName( MAPPER_ANNOTATION_FQN );
+    private static final String MAPPER_CONFIG_KEY = StringUtil.getShortName( MAPPER_CONFIG_ANNOTATION_FQN );
+    private static final String MAPPER_ANNOTATION_TEXT = "@" + MAPPER_KEY;
+    private static final Pattern USES_OR_CONFIG_ATTRIBUTE = Pattern.compile( "\\b(uses|config)\\s*=" );
+
+    @NotNull
+    @Override
+    public ID<String, List<MapperReference>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<MapperReference>, FileContent> getIndexer() {
+        return inputData -> {
+            if ( !mayContainMapperReferences( inputData.getContentAsText() ) ) {
+                return Map.of();
+            }
+
+            return indexMapperReferences( inputData.getPsiFile() );
+        };
+    }
+
+    /**
+     * Text based screen of the file content, so that the PSI is only built for files that use one of the
+     * annotations ({@code @Mapper} is a prefix of {@code @MapperConfig}) together with a {@code uses} or
+     * {@code config} attribute.
+     */
+    private static boolean mayContainMapperReferences(@NotNull CharSequence text) {
+        return ( StringUtil.contains( text, MAPPER_ANNOTATION_TEXT ) ||
+            StringUtil.contains( text, MAPPER_ANNOTATION_FQN ) ) &&
+            USES_OR_CONFIG_ATTRIBUTE.matcher( text ).find();
+    }
+
+    @NotNull
+    private static Map<String, List<MapperReference>> indexMapperReferences(@NotNull PsiFile file) {
+        if ( !( file instanceof PsiJavaFile javaFile ) ) {
+            return Map.of();
+        }
+
+        Map<String, List<MapperReference>> result = new HashMap<>();
+        // Only the class declarations are visited, the code blocks of the methods don't need to be parsed
+        Deque<PsiClass> classes = new ArrayDeque<>( Arrays.asList( javaFile.getClasses() ) );
+        while ( !classes.isEmpty() ) {
+            PsiClass psiClass = classes.poll();
+            classes.addAll( Arrays.asList( psiClass.getInnerClasses() ) );
+            String qualifiedName = psiClass.getQualifiedName();
+            PsiModifierList modifierList = psiClass.getModifierList();
+            if ( qualifiedName == null || modifierList == null ) {
+                continue;
+            }
+
+            for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+                PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+                String annotationName = referenceElement == null ? null : referenceElement.getReferenceName();
+                if ( !MAPPER_KEY.equals( annotationName ) && !MAPPER_CONFIG_KEY.equals( annotationName ) ) {
+                    continue;
+                }
+
+                for ( PsiAnnotationMemberValue usesValue : AnnotationUtil.arrayAttributeValues(
+                    annotation.findDeclaredAttributeValue( "uses" ) ) ) {
+                    addReference( result, usesValue, new MapperReference( qualifiedName, false ) );
+                }
+                addReference(
+                    result,
+                    annotation.findDeclaredAttributeValue( "config" ),
+                    new MapperReference( qualifiedName, true )
+                );
+            }
+        }
+
+        return result;
+    }
+
+    private static void addReference(@NotNull Map<String, List<MapperReference>> result,
+                                     @Nullable PsiAnnotationMemberValue value,
+                                     @NotNull MapperReference reference) {
+        if ( !( value instanceof PsiClassObjectAccessExpression classObjectAccessExpression ) ) {
+            return;
+        }
+
+        PsiJavaCodeReferenceElement referenceElement = classObjectAccessExpression.getOperand()
+            .getInnermostComponentReferenceElement();
+        String referencedName = referenceElement == null ? null : referenceElement.getReferenceName();
+        if ( referencedName != null ) {
+            result.computeIfAbsent( referencedName, key -> new ArrayList<>() ).add( reference );
+        }
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<MapperReference>> getValueExternalizer() {
+        return MapperReferenceListExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Find all the mappers and mapper configs that use the {@code usedClass}, either directly through their
+     * {@code uses} attribute or indirectly through the {@code uses} of their {@code config}.
+     *
+     * @param usedClass the class that is used
+     * @param scope the scope in which the mappers should be searched
+     *
+     * @return the mappers and mapper configs using the {@code usedClass}
+     */
+    @NotNull
+    public static Collection<PsiClass> findUsingMappers(@NotNull PsiClass usedClass,
+                                                        @NotNull GlobalSearchScope scope) {
+        String usedClassName = usedClass.getName();
+        if ( usedClassName == null ) {
+            return List.of();
+        }
+
+        Project project = usedClass.getProject();
+        Set<PsiClass> candidates = new LinkedHashSet<>();
+        for ( PsiClass usingClass : findReferencingClasses( project, usedClassName, false, scope ) ) {
+            candidates.add( usingClass );
+            String usingClassName = usingClass.getName();
+            if ( usingClassName != null && MapstructUtil.isMapperConfig( usingClass ) ) {
+                candidates.addAll( findReferencingClasses( project, usingClassName, true, scope ) );
+            }
+        }
+
+        PsiManager psiManager = usedClass.getManager();
+        Set<PsiClass> result = new LinkedHashSet<>();
+        for ( PsiClass candidate : candidates ) {
+            PsiAnnotation annotation = findMapperOrMapperConfigAnnotation( candidate );
+            if ( annotation != null && MapstructAnnotationUtils.findReferencedMapperClasses( annotation )
+                .anyMatch( referencedClass -> psiManager.areElementsEquivalent( referencedClass, usedClass ) ) ) {
+                result.add( candidate );
+            }
+        }
+
+        return result;
+    }
+
+    @NotNull
+    private static Set<PsiClass> findReferencingClasses(@NotNull Project project, @NotNull String referencedName,
+                                                        boolean config, @NotNull GlobalSearchScope scope) {
+        Set<String> qualifiedNames = new LinkedHashSet<>();
+        List<List<MapperReference>> values = FileBasedIndex.getInstance().getValues( NAME, referencedName, scope );
+        for ( List<MapperReference> references : values ) {
+            for ( MapperReference reference : references ) {
+                if ( reference.config() == config ) {
+                    qualifiedNames.add( reference.className() );
+                }
+            }
+        }
+
+        if ( qualifiedNames.isEmpty() ) {
+            return Set.of();
+        }
+
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( project );
+        Set<PsiClass> classes = new LinkedHashSet<>();
+        for ( String qualifiedName : qualifiedNames ) {
+            classes.addAll( List.of( javaPsiFacade.findClasses( qualifiedName, scope ) ) );
+        }
+        return classes;
+    }
+
+    @Nullable
+    private static PsiAnnotation findMapperOrMapperConfigAnnotation(@NotNull PsiClass psiClass) {
+        PsiAnnotation mapperAnnotation = psiClass.getAnnotation( MAPPER_ANNOTATION_FQN );
+        return mapperAnnotation != null ? mapperAnnotation : psiClass.getAnnotation( MAPPER_CONFIG_ANNOTATION_FQN );
+    }
+
+    /**
+     * A mapper or mapper config referencing a class, either in its {@code uses} or in its {@code config}.
+     *
+     * @param className the qualified name of the mapper or mapper config
+     * @param config {@code true} if the class is referenced through {@code config}, {@code false} if it is referenced
+     * through {@code uses}
+     */
+    public record MapperReference(@NotNull String className, boolean config) {
+    }
+
+    private static class MapperReferenceListExternalizer implements DataExternalizer<List<MapperReference>> {
+
+        private static final MapperReferenceListExternalizer INSTANCE = new MapperReferenceListExternalizer();
+
+        @Override
+        public void save(@NotNull DataOutput out, List<MapperReference> value) throws IOException {
+            DataInputOutputUtil.writeINT( out, value.size() );
+            for ( MapperReference reference : value ) {
+                IOUtil.writeUTF( out, reference.className() );
+                out.writeBoolean( reference.config() );
+            }
+        }
+
+        @Override
+        public List<MapperReference> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT( in );
+            List<MapperReference> value = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ ) {
+                value.add( new MapperReference( IOUtil.readUTF( in ), in.readBoolean() ) );
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of the property names used in the {@code source} and {@code target} of {@link org.mapstruct.Mapping} and in
+ * {@link org.mapstruct.BeanMapping#ignoreUnmappedSourceProperties()}. The key is a single segment of the property
+ * path, i.e. {@code "customer.address"} is indexed as {@code customer} and {@code address}.
+ * <p>
+ * The index works on the text of the file, which keeps it fast and allows it to be used for both Java and Kotlin
+ * files. It can contain more segments than actually used, the found files still need to be checked.
+ */
+public class MappingPropertyIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create( "org.mapstruct.intellij.MappingPropertyIndex" );
+
+    private static final String KOTLIN_EXTENSION = "kt";
+
+    private static final Pattern PROPERTY_ATTRIBUTE_PATTERN = Pattern.compile(
+        "\\b(?:source|target|ignoreUnmappedSourceProperties)\\s*=\\s*" +
+            "(\"[^\"]*\"|\\{[^}]*}|\\[[^\\]]*]|arrayOf\\s*\\([^)]*\\))"
+    );
+    private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile( "\"([^\"\\\\]*)\"" );
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            CharSequence text = inputData.getContentAsText();
+            if ( !StringUtil.contains( text, "Mapping" ) ) {
+                return Map.of();
+            }
+
+            Map<String, Void> result = new HashMap<>();
+            Matcher attributeMatcher = PROPERTY_ATTRIBUTE_PATTERN.matcher( text );
+            while ( attributeMatcher.find() ) {
+                Matcher literalMatcher = STRING_LITERAL_PATTERN.matcher( attributeMatcher.group( 1 ) );
+                while ( literalMatcher.find() ) {
+                    for ( String segment : StringUtil.split( literalMatcher.group( 1 ), "." ) ) {
+                        String propertyName = segment.trim();
+                        if ( !propertyName.isEmpty() ) {
+                            result.put( propertyName, null );
+                        }
+                    }
+                }
+            }
+
+            return result;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> file.getFileType() == JavaFileType.INSTANCE || KOTLIN_EXTENSION.equals( file.getExtension() );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Find all the files that use the {@code propertyName} in a MapStruct mapping.
+     *
+     * @param propertyName the name of the property
+     * @param scope the scope in which the files should be searched
+     *
+     * @return the files that (might) reference the property
+     */
+    @NotNull
+    public static Collection<VirtualFile> findFilesWithProperty(@NotNull String propertyName,
+                                                                @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles( NAME, propertyName, scope );
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.mapstruct.intellij.util.MapstructUtil.NAMED_ANNOTATION_FQN;
+
+/**
+ * Index of the methods annotated with {@link org.mapstruct.Named}. The key is the value of the annotation and the
+ * value are the methods (owning class and method name) that use it. Methods returning {@code void} can't be used
+ * as a qualifier and are not indexed.
+ * <p>
+ * When the value of the annotation is not a literal (e.g. a reference to a constant) it can't be evaluated during
+ * indexing. Such methods are indexed under {@link #NON_LITERAL_NAME} and need to be checked by the caller.
+ */
+public class NamedMethodIndex extends FileBasedIndexExtension<String, List<NamedMethodIndex.NamedMethod>> {
+
+    public static final ID<String, List<NamedMethod>> NAME = ID.create( "org.mapstruct.intellij.NamedMethodIndex" );
+
+    /**
+     * The key under which methods with a non literal {@link org.mapstruct.Named#value()} are indexed.
+     */
+    public static final String NON_LITERAL_NAME = "";
+
+    private static final String NAMED_KEY = StringUtil.getShortName( NAMED_ANNOTATION_FQN );
+
+    @NotNull
+    @Override
+    public ID<String, List<NamedMethod>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<NamedMethod>, FileContent> getIndexer() {
+        return inputData -> {
+            if ( !StringUtil.contains( inputData.getContentAsText(), NAMED_KEY ) ) {
+                return Map.of();
+            }
+
+            return indexNamedMethods( inputData.getPsiFile() );
+        };
+    }
+
+    @NotNull
+    private static Map<String, List<NamedMethod>> indexNamedMethods(@NotNull PsiFile file) {
+        if ( !( file instanceof PsiJavaFile javaFile ) ) {
+            return Map.of();
+        }
+
+        Map<String, List<NamedMethod>> result = new HashMap<>();
+        // Only the class declarations are visited, the code blocks of the methods don't need to be parsed
+        Deque<PsiClass> classes = new ArrayDeque<>( Arrays.asList( javaFile.getClasses() ) );
+        while ( !classes.isEmpty() ) {
+            PsiClass psiClass = classes.poll();
+            classes.addAll( Arrays.asList( psiClass.getInnerClasses() ) );
+            String className = psiClass.getQualifiedName();
+            if ( className == null ) {
+                continue;
+            }
+
+            for ( PsiMethod method : psiClass.getMethods() ) {
+                PsiTypeElement returnTypeElement = method.getReturnTypeElement();
+                if ( returnTypeElement == null || "void".equals( returnTypeElement.getText() ) ) {
+                    continue;
+                }
+
+                for ( PsiAnnotation annotation : method.getModifierList().getAnnotations() ) {
+                    PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+                    if ( referenceElement != null && NAMED_KEY.equals( referenceElement.getReferenceName() ) ) {
+                        result.computeIfAbsent( getNamedValue( annotation ), key -> new ArrayList<>() )
+                            .add( new NamedMethod( className, method.getName() ) );
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @NotNull
+    private static String getNamedValue(@NotNull PsiAnnotation annotation) {
+        PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue( "value" );
+        if ( value instanceof PsiLiteralExpression literalExpression &&
+            literalExpression.getValue() instanceof String name && !name.isEmpty() ) {
+            return name;
+        }
+        return NON_LITERAL_NAME;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<NamedMethod>> getValueExternalizer() {
+        return NamedMethodListExternalizer.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Find all the methods annotated with {@link org.mapstruct.Named} whose value matches the {@code nameFilter}.
+     * The methods indexed under {@link #NON_LITERAL_NAME} are always included.
+     *
+     * @param nameFilter the filter for the names
+     * @param scope the scope in which the methods should be searched
+     *
+     * @return the matching named methods
+     */
+    @NotNull
+    public static List<NamedMethod> findNamedMethods(@NotNull Predicate<String> nameFilter,
+                                                     @NotNull GlobalSearchScope scope) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        List<String> names = new ArrayList<>();
+        fileBasedIndex.processAllKeys( NAME, name -> {
+            if ( NON_LITERAL_NAME.equals( name ) || nameFilter.test( name ) ) {
+                names.add( name );
+            }
+            return true;
+        }, scope, null );
+
+        List<NamedMethod> namedMethods = new ArrayList<>();
+        for ( String name : names ) {
+            for ( List<NamedMethod> methods : fileBasedIndex.getValues( NAME, name, scope ) ) {
+                namedMethods.addAll( methods );
+            }
+        }
+
+        return namedMethods;
+    }
+
+    /**
+     * Find all the methods annotated with {@link org.mapstruct.Named} with the given {@code name}. The methods indexed
+     * under {@link #NON_LITERAL_NAME} are always included.
+     *
+     * @param name the name of the qualifier
+     * @param scope the scope in which the methods should be searched
+     *
+     * @return the named methods
+     */
+    @NotNull
+    public static List<NamedMethod> findNamedMethods(@NotNull String name, @NotNull GlobalSearchScope scope) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        List<NamedMethod> namedMethods = new ArrayList<>();
+        for ( List<NamedMethod> methods : fileBasedIndex.getValues( NAME, name, scope ) ) {
+            namedMethods.addAll( methods );
+        }
+        for ( List<NamedMethod> methods : fileBasedIndex.getValues( NAME, NON_LITERAL_NAME, scope ) ) {
+            namedMethods.addAll( methods );
+        }
+
+        return namedMethods;
+    }
+
+    /**
+     * A method annotated with {@link org.mapstruct.Named}.
+     *
+     * @param className the qualified name of the class that declares the method
+     * @param methodName the name of the method
+     */
+    public record NamedMethod(@NotNull String className, @NotNull String methodName) {
+
+        /**
+         * @param method the method
+         *
+         * @return the named method for the given {@code method}, {@code null} if the class of the method has no
+         * qualified name
+         */
+        @Nullable
+        public static NamedMethod of(@NotNull PsiMethod method) {
+            PsiClass containingClass = method.getContainingClass();
+            String className = containingClass == null ? null : containingClass.getQualifiedName();
+            return className == null ? null : new NamedMethod( className, method.getName() );
+        }
+    }
+
+    private static class NamedMethodListExternalizer implements DataExternalizer<List<NamedMethod>> {
+
+        private static final NamedMethodListExternalizer INSTANCE = new NamedMethodListExternalizer();
+
+        @Override
+        public void save(@NotNull DataOutput out, List<NamedMethod> value) throws IOException {
+            DataInputOutputUtil.writeINT( out, value.size() );
+            for ( NamedMethod namedMethod : value ) {
+                IOUtil.writeUTF( out, namedMethod.className() );
+                IOUtil.writeUTF( out, namedMethod.methodName() );
+            }
+        }
+
+        @Override
+        public List<NamedMethod> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT( in );
+            List<NamedMethod> value = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ ) {
+                value.add( new NamedMethod( IOUtil.readUTF( in ), IOUtil.readUTF( in ) ) );
+            }
+            return value;
+        }
+    }
+}
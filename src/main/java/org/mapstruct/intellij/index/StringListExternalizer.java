@@ -0,0 +1,46 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Externalizer for index values that are a list of strings.
+ */
+class StringListExternalizer implements DataExternalizer<List<String>> {
+
+    static final StringListExternalizer INSTANCE = new StringListExternalizer();
+
+    private StringListExternalizer() {
+    }
+
+    @Override
+    public void save(@NotNull DataOutput out, List<String> value) throws IOException {
+        DataInputOutputUtil.writeINT( out, value.size() );
+        for ( String element : value ) {
+            IOUtil.writeUTF( out, element );
+        }
+    }
+
+    @Override
+    public List<String> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT( in );
+        List<String> value = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ ) {
+            value.add( IOUtil.readUTF( in ) );
+        }
+        return value;
+    }
+}
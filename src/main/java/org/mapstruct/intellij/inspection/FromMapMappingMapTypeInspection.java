@@ -22,15 +22,14 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapStructVersion;
+import org.mapstruct.intellij.util.MappingMethodModel;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static com.intellij.psi.PsiElementFactory.getInstance;
-import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
-import static org.mapstruct.intellij.util.SourceUtils.findAllDefinedMappingSources;
 import static org.mapstruct.intellij.util.SourceUtils.getGenericTypes;
 import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
 
 /**
  * @author hduelme
@@ -39,11 +38,14 @@ public class FromMapMappingMapTypeInspection extends InspectionBase {
 
     @NotNull
     @Override
-    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MapStructEnvironment environment,
+                                           @NotNull MappingElementClassifier classifier) {
         return new MyJavaElementVisitor(
             holder,
-            MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ),
-            MapstructUtil.getInstance( holder.getFile() )
+            environment.version(),
+            environment.mapstructUtil(),
+            classifier
         );
     }
 
@@ -51,28 +53,28 @@ private static class MyJavaElementVisitor extends JavaElementVisitor {
         private final ProblemsHolder holder;
         private final MapStructVersion mapStructVersion;
         private final MapstructUtil mapstructUtil;
+        private final MappingElementClassifier classifier;
 
         private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion,
-                                     MapstructUtil mapstructUtil) {
+                                     MapstructUtil mapstructUtil, MappingElementClassifier classifier) {
             this.holder = holder;
             this.mapStructVersion = mapStructVersion;
             this.mapstructUtil = mapstructUtil;
+            this.classifier = classifier;
         }
 
         @Override
         public void visitMethod(@NotNull PsiMethod method) {
             super.visitMethod( method );
 
-            if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
+            MappingMethodModel model = classifier.findMapperMappingMethod( method );
+            if ( model == null ) {
                 return;
             }
 
-            PsiType targetType = getTargetType( method );
-            if ( targetType == null ) {
-                return;
-            }
+            PsiType targetType = model.targetType();
 
-            PsiParameter fromMapMappingParameter = getFromMapMappingParameter( method );
+            PsiParameter fromMapMappingParameter = getFromMapMappingParameter( method, model.sourceParameters() );
             if ( fromMapMappingParameter == null ) {
                 return;
             }
@@ -84,13 +86,14 @@ public void visitMethod(@NotNull PsiMethod method) {
                 targetType,
                 mapStructVersion,
                 mapstructUtil,
-                method
+                model.isBuilderEnabled()
             );
             if ( allTargetProperties.contains( fromMapMappingParameter.getName() ) ) {
                 return;
             }
-            if ( findAllDefinedMappingSources( method, mapStructVersion )
-                    .anyMatch( source -> fromMapMappingParameter.getName().equals( source ) ) ) {
+            if ( model.definedMappings()
+                    .stream()
+                    .anyMatch( mapping -> fromMapMappingParameter.getName().equals( mapping.source() ) ) ) {
                 return;
             }
             if ( parameters.length == 0 ) {
@@ -112,8 +115,8 @@ else if ( parameters.length == 2 ) {
         }
 
         @Nullable
-        private static  PsiParameter getFromMapMappingParameter(@NotNull PsiMethod method) {
-            PsiParameter[]  sourceParameters = getSourceParameters( method );
+        private static  PsiParameter getFromMapMappingParameter(@NotNull PsiMethod method,
+                                                                PsiParameter[] sourceParameters) {
             if ( sourceParameters.length == 1 ) {
                 PsiParameter parameter = sourceParameters[0];
                 if ( parameter != null && PsiType.getTypeByName( "java.util.Map", method.getProject(),
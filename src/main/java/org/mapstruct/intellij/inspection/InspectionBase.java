@@ -6,13 +6,14 @@
 package org.mapstruct.intellij.inspection;
 
 import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.LocalInspectionToolSession;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.PsiElementVisitor;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
-
-import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+import org.mapstruct.intellij.util.MapStructEnvironment;
+import org.mapstruct.intellij.util.MapstructUtil;
 
 /**
  * Inspection base for MapStruct issues.
@@ -28,26 +29,50 @@ public String getGroupDisplayName() {
         return MapStructBundle.message( "group.names.mapstruct.issues" );
     }
 
+    @NotNull
+    @Override
+    public final PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                                @NotNull LocalInspectionToolSession session) {
+        return buildVisitor( holder, isOnTheFly, MappingElementClassifier.getInstance( session ) );
+    }
+
     @NotNull
     @Override
     public final PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        if ( !isMapStructPresent( holder.getFile() ) ) {
+        return buildVisitor( holder, isOnTheFly, new MappingElementClassifier() );
+    }
+
+    @NotNull
+    private PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MappingElementClassifier classifier) {
+        MapStructEnvironment environment = MapStructEnvironment.getInstance( holder.getFile() );
+        if ( !environment.mapStructPresent() ) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+
+        if ( !MapstructUtil.mayContainMapStructCode( holder.getFile() ) ) {
+            // Most files in a module with MapStruct do not use MapStruct at all
             return PsiElementVisitor.EMPTY_VISITOR;
         }
 
-        return buildVisitorInternal( holder, isOnTheFly );
+        return buildVisitorInternal( holder, isOnTheFly, environment, classifier );
     }
 
     /**
-     * This method is only invoked if mapstruct is present in the module of the file being checked
+     * This method is only invoked if mapstruct is present in the module of the file being checked, and the file
+     * can contain MapStruct code
      *
      * @param holder the problem holder
      * @param isOnTheFly true if inspection was run in non-batch mode
+     * @param environment the MapStruct environment of the module of the file being checked
+     * @param classifier the classifier of mappers and mapping methods, shared by all inspections of the session
      *
      * @return The visitor that needs to be used for the inspection
      *
-     * @see InspectionBase#buildVisitor(ProblemsHolder, boolean)
+     * @see InspectionBase#buildVisitor(ProblemsHolder, boolean, LocalInspectionToolSession)
      */
     @NotNull
-    abstract PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly);
+    abstract PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                                    @NotNull MapStructEnvironment environment,
+                                                    @NotNull MappingElementClassifier classifier);
 }
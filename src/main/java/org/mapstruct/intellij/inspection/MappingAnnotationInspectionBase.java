@@ -19,6 +19,7 @@
 import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationParamListImpl;
 import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static com.intellij.psi.PsiElementFactory.getInstance;
@@ -26,7 +27,9 @@
 public abstract class MappingAnnotationInspectionBase extends InspectionBase {
 
     @Override
-    @NotNull PsiElementVisitor buildVisitorInternal( @NotNull ProblemsHolder holder, boolean isOnTheFly ) {
+    @NotNull PsiElementVisitor buildVisitorInternal( @NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                                     @NotNull MapStructEnvironment environment,
+                                                     @NotNull MappingElementClassifier classifier ) {
         return new MappingAnnotationInspectionBase.MyJavaElementVisitor( holder );
     }
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.intellij.codeInspection.LocalInspectionToolSession;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.util.MappingMethodModel;
+
+/**
+ * Classifies the classes and methods of a file once per highlighting session. All MapStruct inspections that run
+ * in the same session share the classifier, so checking whether a class is a mapper, or creating the model of a
+ * mapping method, happens once per element instead of once per inspection.
+ */
+final class MappingElementClassifier {
+
+    private static final Key<MappingElementClassifier> CLASSIFIER_KEY = Key.create( "MapStructElementClassifier" );
+
+    private final Map<PsiClass, MapperKind> mapperKinds = new ConcurrentHashMap<>();
+    private final Map<PsiMethod, MappingMethodModel> methodModels = new ConcurrentHashMap<>();
+
+    /**
+     * @param session the highlighting session
+     *
+     * @return the classifier shared by all inspections of the {@code session}
+     */
+    @NotNull
+    static MappingElementClassifier getInstance(@NotNull LocalInspectionToolSession session) {
+        return session.putUserDataIfAbsent( CLASSIFIER_KEY, new MappingElementClassifier() );
+    }
+
+    /**
+     * @param psiClass the class to check
+     *
+     * @return {@code true} if the class is annotated with {@link org.mapstruct.Mapper}
+     */
+    boolean isMapper(@Nullable PsiClass psiClass) {
+        return psiClass != null && mapperKind( psiClass ) == MapperKind.MAPPER;
+    }
+
+    /**
+     * @param psiClass the class to check
+     *
+     * @return {@code true} if the class is annotated with {@link org.mapstruct.MapperConfig}
+     */
+    boolean isMapperConfig(@Nullable PsiClass psiClass) {
+        return psiClass != null && mapperKind( psiClass ) == MapperKind.MAPPER_CONFIG;
+    }
+
+    /**
+     * Get the model of the {@code method} if it is a mapping method, with a target, defined in a
+     * {@link org.mapstruct.Mapper}.
+     *
+     * @param method the method to classify
+     *
+     * @return the model of the mapping method, or {@code null} if the method is not such a mapping method
+     */
+    @Nullable
+    MappingMethodModel findMapperMappingMethod(@NotNull PsiMethod method) {
+        if ( !isMapper( method.getContainingClass() ) ) {
+            return null;
+        }
+
+        MappingMethodModel model = methodModels.computeIfAbsent( method, MappingMethodModel::of );
+        return model.targetType() == null ? null : model;
+    }
+
+    @NotNull
+    private MapperKind mapperKind(@NotNull PsiClass psiClass) {
+        return mapperKinds.computeIfAbsent( psiClass, aClass -> {
+            if ( MapperIndex.isMapper( aClass ) ) {
+                return MapperKind.MAPPER;
+            }
+            if ( MapperIndex.isMapperConfig( aClass ) ) {
+                return MapperKind.MAPPER_CONFIG;
+            }
+            return MapperKind.NONE;
+        } );
+    }
+
+    private enum MapperKind {
+        MAPPER,
+        MAPPER_CONFIG,
+        NONE
+    }
+}
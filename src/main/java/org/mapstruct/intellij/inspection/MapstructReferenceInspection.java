@@ -22,6 +22,7 @@
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.codeinsight.references.BaseReference;
 import org.mapstruct.intellij.codeinsight.references.BaseValueMappingReference;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 /**
@@ -33,7 +34,9 @@
 public class MapstructReferenceInspection extends InspectionBase {
 
     @Override
-    @NotNull PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    @NotNull PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                                    @NotNull MapStructEnvironment environment,
+                                                    @NotNull MappingElementClassifier classifier) {
         return new MapstructReferenceVisitor( holder );
     }
 
@@ -14,11 +14,9 @@
 import com.intellij.psi.PsiNameValuePair;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapstructUtil;
 
-import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
-import static org.mapstruct.intellij.util.MapstructUtil.isMapperConfig;
-
 /**
  * Inspection that checks if a mapping class (a class that contains at lease one mapping method) is anntoated with
  * {@link org.mapstruct.Mapper} or {@link org.mapstruct.MapperConfig}.
@@ -29,16 +27,20 @@ public class MissingMapperOrMapperConfigAnnotationInspection extends InspectionB
 
     @NotNull
     @Override
-    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        return new MyJavaElementVisitor( holder );
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MapStructEnvironment environment,
+                                           @NotNull MappingElementClassifier classifier) {
+        return new MyJavaElementVisitor( holder, classifier );
     }
 
     private static class MyJavaElementVisitor extends JavaElementVisitor {
 
         private final ProblemsHolder holder;
+        private final MappingElementClassifier classifier;
 
-        MyJavaElementVisitor(ProblemsHolder holder) {
+        MyJavaElementVisitor(ProblemsHolder holder, MappingElementClassifier classifier) {
             this.holder = holder;
+            this.classifier = classifier;
         }
 
         @Override
@@ -46,8 +48,8 @@ public void visitClass(PsiClass aClass) {
             super.visitClass( aClass );
             if ( aClass.getNameIdentifier() == null
                 || !aClass.isValid()
-                || isMapper( aClass )
-                || isMapperConfig( aClass ) ) {
+                || classifier.isMapper( aClass )
+                || classifier.isMapperConfig( aClass ) ) {
                 return;
             }
 
@@ -44,7 +44,7 @@ private boolean hasMatchingSourceProperty( @NotNull PsiMethod annotatedMethod,
         if ( targetValue == null ) {
             return false;
         }
-        return  SourceUtils.findAllSourceProperties( annotatedMethod ).contains( targetValue );
+        return SourceUtils.findAllSourceProperties( annotatedMethod ).contains( targetValue );
     }
 
     private static boolean isIgnoreByDefaultEnabled( @NotNull PsiMethod annotatedMethod ) {
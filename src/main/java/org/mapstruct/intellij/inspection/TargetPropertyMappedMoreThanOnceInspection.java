@@ -37,19 +37,17 @@
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationImpl;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapStructVersion;
-import org.mapstruct.intellij.util.MapstructUtil;
 import org.mapstruct.intellij.util.TargetUtils;
 
 import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.extractMappingAnnotationsFromMappings;
 import static org.mapstruct.intellij.util.MapstructUtil.MAPPINGS_ANNOTATION_FQN;
 import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
 
 /**
  * @author hduelme
@@ -57,27 +55,28 @@
 public class TargetPropertyMappedMoreThanOnceInspection extends InspectionBase {
     @NotNull
     @Override
-    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MapStructEnvironment environment,
+                                           @NotNull MappingElementClassifier classifier) {
         return new TargetPropertyMappedMoreThanOnceInspection.MyJavaElementVisitor( holder,
-                MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ) );
+                environment.version(), classifier );
     }
 
     private static class MyJavaElementVisitor extends JavaElementVisitor {
         private final ProblemsHolder holder;
         private final MapStructVersion mapStructVersion;
+        private final MappingElementClassifier classifier;
 
-        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion) {
+        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion,
+                                     MappingElementClassifier classifier) {
             this.holder = holder;
             this.mapStructVersion = mapStructVersion;
+            this.classifier = classifier;
         }
 
         @Override
         public void visitMethod(PsiMethod method) {
-            if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
-                return;
-            }
-            PsiType targetType = getTargetType( method );
-            if ( targetType == null ) {
+            if ( classifier.findMapperMappingMethod( method ) == null ) {
                 return;
             }
             Map<String, List<PsiElement>> problemMap = new HashMap<>();
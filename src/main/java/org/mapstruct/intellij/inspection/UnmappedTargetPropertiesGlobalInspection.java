@@ -0,0 +1,153 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.GlobalInspectionTool;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptionsProcessor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.codeInspection.reference.RefElement;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiRecursiveElementWalkingVisitor;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MapperIndex;
+
+/**
+ * Batch variant of the {@link UnmappedTargetPropertiesInspection}. In the editor the shared
+ * {@link UnmappedTargetPropertiesInspection} is used. When the whole project (or a scope) is inspected, the mapper
+ * files are looked up through the {@link MapperIndex} once, and are then analysed in parallel. The target accessors
+ * and the mapper configuration are cached per class, so the parallel workers share them instead of computing them
+ * per file.
+ */
+public class UnmappedTargetPropertiesGlobalInspection extends GlobalInspectionTool {
+
+    private final UnmappedTargetPropertiesInspection localInspection = new UnmappedTargetPropertiesInspection();
+
+    @Nls
+    @NotNull
+    @Override
+    public String getGroupDisplayName() {
+        return MapStructBundle.message( "group.names.mapstruct.issues" );
+    }
+
+    @Nullable
+    @Override
+    public LocalInspectionTool getSharedLocalInspectionTool() {
+        return localInspection;
+    }
+
+    @Override
+    public boolean isGraphNeeded() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadActionNeeded() {
+        // The mapper files are analysed in parallel, every worker takes its own read action
+        return false;
+    }
+
+    @Override
+    public void runInspection(@NotNull AnalysisScope scope, @NotNull InspectionManager manager,
+                              @NotNull GlobalInspectionContext globalContext,
+                              @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+        Project project = manager.getProject();
+        // The mappers are looked up in the index, which can only be done once the indexing is finished
+        List<VirtualFile> mapperFiles = ReadAction.nonBlocking( () -> findMapperFiles( project, scope ) )
+            .inSmartMode( project )
+            .executeSynchronously();
+        if ( mapperFiles.isEmpty() ) {
+            return;
+        }
+
+        Map<VirtualFile, ProblemDescriptor[]> problems = new ConcurrentHashMap<>();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            mapperFiles,
+            ProgressManager.getGlobalProgressIndicator(),
+            mapperFile -> {
+                ProblemDescriptor[] fileProblems = ReadAction.nonBlocking(
+                    () -> inspectFile( project, mapperFile, manager )
+                ).executeSynchronously();
+                if ( fileProblems.length > 0 ) {
+                    problems.put( mapperFile, fileProblems );
+                }
+                return true;
+            }
+        );
+
+        // The problems are reported from a single thread, the processor does not need to be thread safe
+        ReadAction.run( () -> problems.forEach( (mapperFile, fileProblems) -> {
+            PsiFile psiFile = mapperFile.isValid() ? PsiManager.getInstance( project ).findFile( mapperFile ) : null;
+            RefElement refElement = psiFile == null ? null : globalContext.getRefManager().getReference( psiFile );
+            if ( refElement != null ) {
+                problemDescriptionsProcessor.addProblemElement( refElement, fileProblems );
+            }
+        } ) );
+    }
+
+    @NotNull
+    private static List<VirtualFile> findMapperFiles(@NotNull Project project, @NotNull AnalysisScope scope) {
+        Set<VirtualFile> mapperFiles = new LinkedHashSet<>();
+        for ( PsiClass mapper : MapperIndex.findMappers( project, GlobalSearchScope.projectScope( project ) ) ) {
+            PsiFile psiFile = mapper.getContainingFile();
+            VirtualFile virtualFile = psiFile == null ? null : psiFile.getVirtualFile();
+            if ( virtualFile != null && scope.contains( virtualFile ) ) {
+                mapperFiles.add( virtualFile );
+            }
+        }
+
+        return new ArrayList<>( mapperFiles );
+    }
+
+    @NotNull
+    private ProblemDescriptor[] inspectFile(@NotNull Project project, @NotNull VirtualFile mapperFile,
+                                            @NotNull InspectionManager manager) {
+        PsiFile psiFile = mapperFile.isValid() ? PsiManager.getInstance( project ).findFile( mapperFile ) : null;
+        if ( psiFile == null ) {
+            return ProblemDescriptor.EMPTY_ARRAY;
+        }
+
+        ProblemsHolder holder = new ProblemsHolder( manager, psiFile, false );
+        PsiElementVisitor visitor = localInspection.buildVisitor( holder, false );
+        if ( visitor == PsiElementVisitor.EMPTY_VISITOR ) {
+            return ProblemDescriptor.EMPTY_ARRAY;
+        }
+
+        psiFile.accept( new PsiRecursiveElementWalkingVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                element.accept( visitor );
+                super.visitElement( element );
+            }
+        } );
+
+        return holder.getResultsArray();
+    }
+}
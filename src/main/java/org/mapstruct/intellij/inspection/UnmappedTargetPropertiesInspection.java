@@ -22,6 +22,7 @@
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementFactory;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
@@ -34,21 +35,17 @@
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.intellij.MapStructBundle;
 import org.mapstruct.intellij.settings.ProjectSettings;
+import org.mapstruct.intellij.util.DefinedMapping;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapStructVersion;
+import org.mapstruct.intellij.util.MappingMethodModel;
 import org.mapstruct.intellij.util.MapstructUtil;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
-import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
 import static org.mapstruct.intellij.inspection.inheritance.InheritConfigurationUtils.findInheritedTargetProperties;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotation;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.getUnmappedTargetPolicy;
-import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
-import static org.mapstruct.intellij.util.SourceUtils.findAllSourceProperties;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotations;
 import static org.mapstruct.intellij.util.SourceUtils.getGenericTypes;
-import static org.mapstruct.intellij.util.TargetUtils.findAllDefinedMappingTargets;
 import static org.mapstruct.intellij.util.TargetUtils.findAllSourcePropertiesForCurrentTarget;
 import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
 
 /**
  * Inspection that checks if there are unmapped target properties.
@@ -58,91 +55,148 @@
 public class UnmappedTargetPropertiesInspection extends InspectionBase {
     @NotNull
     @Override
-    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        return new MyJavaElementVisitor(
-            holder,
-            MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ),
-            MapstructUtil.getInstance( holder.getFile() )
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MapStructEnvironment environment,
+                                           @NotNull MappingElementClassifier classifier) {
+        return new MyJavaElementVisitor( holder, environment.mapstructUtil(), classifier );
+    }
+
+    /**
+     * Find the target properties of the {@code method} that are not mapped. The properties that are mapped through
+     * a {@link org.mapstruct.Mapping}, through an inherited configuration or implicitly through a source property
+     * with the same name are not unmapped.
+     *
+     * @param method the mapping method
+     *
+     * @return the unmapped target properties, empty if the method is not a mapping method of a
+     * {@link org.mapstruct.Mapper} or if the unmapped target properties of the method are not reported
+     */
+    @NotNull
+    public static Set<String> findUnmappedTargetProperties(@NotNull PsiMethod method) {
+        if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
+            return Collections.emptySet();
+        }
+
+        MappingMethodModel model = MappingMethodModel.of( method );
+        if ( model.targetType() == null ) {
+            return Collections.emptySet();
+        }
+
+        return findUnmappedTargetProperties(
+            model,
+            MapStructEnvironment.getInstance( method.getContainingFile() ).mapstructUtil()
         );
     }
 
-    private static class MyJavaElementVisitor extends JavaElementVisitor {
-        private final ProblemsHolder holder;
-        private final MapStructVersion mapStructVersion;
-        private final MapstructUtil mapstructUtil;
+    @NotNull
+    private static Set<String> findUnmappedTargetProperties(@NotNull MappingMethodModel model,
+                                                            @NotNull MapstructUtil mapstructUtil) {
+        PsiMethod method = model.method();
+        MapStructVersion mapStructVersion = model.mapStructVersion();
 
-        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion,
-                                     MapstructUtil mapstructUtil) {
-            this.holder = holder;
-            this.mapStructVersion = mapStructVersion;
-            this.mapstructUtil = mapstructUtil;
+        if ( model.isIgnoreByDefault() ) {
+            return Collections.emptySet();
         }
 
-        @Override
-        public void visitMethod(PsiMethod method) {
-            super.visitMethod( method );
+        if ( isFromMapMapping( method, model.sourceParameters() ) ) {
+            return Collections.emptySet();
+        }
 
-            if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
-                return;
-            }
+        if ( model.unmappedTargetPolicy() == ReportingPolicy.IGNORE ) {
+            return Collections.emptySet();
+        }
 
-            PsiType targetType = getTargetType( method );
-            if ( targetType == null ) {
-                return;
-            }
+        Set<String> allTargetProperties = findAllTargetProperties(
+            model.targetType(),
+            mapStructVersion,
+            mapstructUtil,
+            model.isBuilderEnabled()
+        );
 
-            if ( isBeanMappingIgnoreByDefault( method ) ) {
-                return;
-            }
+        // find and remove all defined mapping targets
+        Set<String> definedTargets = model.definedMappings()
+            .stream()
+            .map( DefinedMapping::target )
+            .filter( target -> target != null && !target.isEmpty() )
+            .map( UnmappedTargetPropertiesInspection::getBaseTarget )
+            .collect( Collectors.toSet() );
+        allTargetProperties.removeAll( definedTargets );
+
+        // find and remove all inherited target properties
+        Set<String> inheritedTargetProperties = findInheritedTargetProperties( method, mapStructVersion )
+            .map( UnmappedTargetPropertiesInspection::getBaseTarget )
+            .collect( Collectors.toSet() );
+        allTargetProperties.removeAll( inheritedTargetProperties );
+
+        if ( definedTargets.contains( "." ) ) {
+            // If there is a defined current target then we need to remove all implicit mapped properties for
+            // the target source
+
+            Set<String> currentTargetSourceProperties =
+                findAllSourcePropertiesForCurrentTarget(
+                method,
+                mapStructVersion
+            )
+                .collect( Collectors.toSet() );
 
-            if ( isFromMapMapping( method ) ) {
-                return;
-            }
+            allTargetProperties.removeAll( currentTargetSourceProperties );
+        }
 
-            ReportingPolicy reportingPolicy = getUnmappedTargetPolicy( method );
-            if ( reportingPolicy == ReportingPolicy.IGNORE ) {
-                return;
-            }
+        //TODO maybe we need to improve this by more granular extraction
+        Set<String> sourceProperties = model.sourceProperties();
+        allTargetProperties.removeAll( sourceProperties );
 
-            Set<String> allTargetProperties = findAllTargetProperties(
-                targetType,
-                mapStructVersion,
-                mapstructUtil,
-                method
-            );
+        return allTargetProperties;
+    }
 
-            // find and remove all defined mapping targets
-            Set<String> definedTargets = findAllDefinedMappingTargets( method, mapStructVersion )
-                .map( MyJavaElementVisitor::getBaseTarget )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( definedTargets );
+    @NotNull
+    private static String getBaseTarget(@NotNull String target) {
+        int dotIndex = target.indexOf( "." );
+        if ( dotIndex > 0 ) {
+            return target.substring( 0, dotIndex );
+        }
+        return target;
+    }
 
-            // find and remove all inherited target properties
-            Set<String> inheritedTargetProperties = findInheritedTargetProperties( method, mapStructVersion )
-                .map( MyJavaElementVisitor::getBaseTarget )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( inheritedTargetProperties );
+    private static boolean isFromMapMapping(@NotNull PsiMethod method, PsiParameter[] sourceParameters) {
+        for ( PsiParameter parameter : sourceParameters ) {
+            if ( parameter != null && PsiType.getTypeByName( "java.util.Map", method.getProject(),
+                    method.getResolveScope() ).isAssignableFrom( parameter.getType() ) ) {
+                PsiType[] generics = getGenericTypes( parameter );
+                if ( generics != null && generics.length > 0 ) {
+                    return  generics[0].equalsToText( "java.lang.String" );
+                }
+            }
+        }
+        return false;
+    }
 
-            if ( definedTargets.contains( "." ) ) {
-                // If there is a defined current target then we need to remove all implicit mapped properties for
-                // the target source
+    private static class MyJavaElementVisitor extends JavaElementVisitor {
+        private final ProblemsHolder holder;
+        private final MapstructUtil mapstructUtil;
+        private final MappingElementClassifier classifier;
 
-                Set<String> currentTargetSourceProperties =
-                    findAllSourcePropertiesForCurrentTarget(
-                    method,
-                    mapStructVersion
-                )
-                    .collect( Collectors.toSet() );
+        private MyJavaElementVisitor(ProblemsHolder holder, MapstructUtil mapstructUtil,
+                                     MappingElementClassifier classifier) {
+            this.holder = holder;
+            this.mapstructUtil = mapstructUtil;
+            this.classifier = classifier;
+        }
 
-                allTargetProperties.removeAll( currentTargetSourceProperties );
+        @Override
+        public void visitMethod(PsiMethod method) {
+            super.visitMethod( method );
+
+            MappingMethodModel model = classifier.findMapperMappingMethod( method );
+            if ( model == null ) {
+                return;
             }
 
-            //TODO maybe we need to improve this by more granular extraction
-            Set<String> sourceProperties = findAllSourceProperties( method );
-            allTargetProperties.removeAll( sourceProperties );
+            Set<String> allTargetProperties = findUnmappedTargetProperties( model, mapstructUtil );
 
             int missingTargetProperties = allTargetProperties.size();
             if ( missingTargetProperties > 0 ) {
+                ReportingPolicy reportingPolicy = model.unmappedTargetPolicy();
                 String messageKey = missingTargetProperties == 1 ? "inspection.unmapped.target.property" :
                     "inspection.unmapped.target.properties.list";
                 String descriptionTemplate = MapStructBundle.message(
@@ -177,41 +231,6 @@ public void visitMethod(PsiMethod method) {
             }
         }
 
-        @NotNull
-        private static String getBaseTarget(@NotNull String target) {
-            int dotIndex = target.indexOf( "." );
-            if ( dotIndex > 0 ) {
-                return target.substring( 0, dotIndex );
-            }
-            return target;
-        }
-
-        private static boolean isBeanMappingIgnoreByDefault(PsiMethod method) {
-            PsiAnnotation beanMapping = findAnnotation( method, true, MapstructUtil.BEAN_MAPPING_FQN );
-            if ( beanMapping != null ) {
-                Boolean ignoreByDefault = getBooleanAttributeValue( beanMapping, "ignoreByDefault" );
-                if ( ignoreByDefault != null ) {
-                    return ignoreByDefault;
-                }
-            }
-
-            return false;
-        }
-
-        private static boolean isFromMapMapping(@NotNull PsiMethod method) {
-            PsiParameter[]  sourceParameters = getSourceParameters( method );
-            for ( PsiParameter parameter : sourceParameters ) {
-                if ( parameter != null && PsiType.getTypeByName( "java.util.Map", method.getProject(),
-                        method.getResolveScope() ).isAssignableFrom( parameter.getType() ) ) {
-                    PsiType[] generics = getGenericTypes( parameter );
-                    if ( generics != null && generics.length > 0 ) {
-                        return  generics[0].equalsToText( "java.lang.String" );
-                    }
-                }
-            }
-            return false;
-        }
-
     }
 
     private static class UnmappedTargetPropertyFix extends LocalQuickFixOnPsiElement {
@@ -270,9 +289,12 @@ public void invoke(@NotNull Project project,
             @NotNull PsiElement endElement) {
             PsiMethod mappingMethod = (PsiMethod) startElement;
 
-            for ( PsiAnnotation annotation : myAnnotationSupplier.get() ) {
-                addMappingAnnotation( project, mappingMethod, annotation, myMoveCaretToEmptySourceAttribute );
-            }
+            addMappingAnnotations(
+                project,
+                mappingMethod,
+                myAnnotationSupplier.get(),
+                myMoveCaretToEmptySourceAttribute
+            );
         }
 
     }
@@ -352,18 +374,8 @@ private static UnmappedTargetPropertyFix createAddIgnoreUnmappedTargetPropertyFi
      */
     private static UnmappedTargetPropertyFix createAddIgnoreAllUnmappedTargetPropertiesFix(PsiMethod method,
         Collection<String> targetProperties) {
-        String fqn = MapstructUtil.MAPPING_ANNOTATION_FQN;
-        Supplier<Collection<PsiAnnotation>> annotationSupplier = () -> {
-            List<PsiAnnotation> annotations = new ArrayList<>( targetProperties.size() );
-            targetProperties.stream()
-                .sorted()
-                .forEach( targetProperty -> annotations.add( JavaPsiFacade.getElementFactory( method.getProject() )
-                    .createAnnotationFromText(
-                        "@" + fqn + "(target = \"" + targetProperty + "\", ignore= true)",
-                        null
-                    ) ) );
-            return annotations;
-        };
+        Supplier<Collection<PsiAnnotation>> annotationSupplier =
+            () -> createIgnoreMappingAnnotations( method, targetProperties );
         String message = MapStructBundle.message( "inspection.add.ignore.all.unmapped.target.properties" );
         return new UnmappedTargetPropertyFix(
             method,
@@ -374,4 +386,27 @@ private static UnmappedTargetPropertyFix createAddIgnoreAllUnmappedTargetPropert
         );
     }
 
+    /**
+     * Create the {@link org.mapstruct.Mapping} annotations that ignore the given {@code targetProperties}.
+     *
+     * @param method the method to which the annotations are going to be added
+     * @param targetProperties the names of the target properties that should be ignored
+     *
+     * @return the annotations, sorted by their target
+     */
+    @NotNull
+    public static List<PsiAnnotation> createIgnoreMappingAnnotations(@NotNull PsiMethod method,
+                                                                     @NotNull Collection<String> targetProperties) {
+        String fqn = MapstructUtil.MAPPING_ANNOTATION_FQN;
+        PsiElementFactory elementFactory = JavaPsiFacade.getElementFactory( method.getProject() );
+        List<PsiAnnotation> annotations = new ArrayList<>( targetProperties.size() );
+        targetProperties.stream()
+            .sorted()
+            .forEach( targetProperty -> annotations.add( elementFactory.createAnnotationFromText(
+                "@" + fqn + "(target = \"" + targetProperty + "\", ignore= true)",
+                null
+            ) ) );
+        return annotations;
+    }
+
 }
@@ -32,6 +32,8 @@
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.util.MapStructEnvironment;
 import org.mapstruct.intellij.util.MapstructAnnotationUtils;
 import org.mapstruct.intellij.util.MapstructUtil;
 
@@ -50,7 +52,9 @@ public class WrongUsageOfMappersFactoryInspection extends InspectionBase {
 
     @NotNull
     @Override
-    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly,
+                                           @NotNull MapStructEnvironment environment,
+                                           @NotNull MappingElementClassifier classifier) {
         return new MyJavaElementVisitor( holder );
     }
 
@@ -82,7 +86,8 @@ public void visitMethodCallExpression(PsiMethodCallExpression expression) {
                     return;
                 }
 
-                PsiAnnotation mapperAnnotation = mapperClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN );
+                PsiAnnotation mapperAnnotation = MapperIndex.isMapper( mapperClass ) ?
+                    mapperClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN ) : null;
                 if ( mapperAnnotation == null ) {
                     List<LocalQuickFix> fixes = new ArrayList<>(2);
                     fixes.add( new AddAnnotationPsiFix(
@@ -8,12 +8,18 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiEnumConstant;
@@ -22,7 +28,12 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.mapstruct.MappingInheritanceStrategy;
 import org.mapstruct.intellij.util.MapStructVersion;
 
@@ -42,6 +53,9 @@
  */
 public class InheritConfigurationUtils {
 
+    private static final Key<CachedValue<InheritanceScope>> INHERITANCE_SCOPE_KEY =
+        Key.create( "MapStructInheritanceScope" );
+
     private InheritConfigurationUtils() {
     }
 
@@ -54,88 +68,131 @@ public static Stream<String> findInheritedTargetProperties(@NotNull PsiMethod ma
             return Stream.empty();
         }
 
-        PsiAnnotation mapperAnnotation = findAnnotation( containingClass, MAPPER_ANNOTATION_FQN );
+        InheritanceScope inheritanceScope = findInheritanceScope( containingClass );
 
-        if ( mapperAnnotation == null ) {
+        if ( inheritanceScope == null ) {
             return Stream.empty();
         }
 
-        List<SourceMethod> availableMethods = findMappingMethodsFromInheritScope( containingClass, mapperAnnotation )
-            .map( SourceMethod::new )
-            .collect( Collectors.toList() );
-        List<SourceMethod> prototypeMethods = findPrototypeMappingMethods( mapperAnnotation )
-            .map( SourceMethod::new )
-            .collect( Collectors.toList() );
-        MappingInheritanceStrategy inheritanceStrategy = findAnnotatedMappingInheritanceStrategy( mapperAnnotation );
-
         InheritConfigurationContext ctx = new InheritConfigurationContext(
             mapStructVersion,
-            availableMethods,
-            prototypeMethods,
-            new ArrayList<>(),
-            inheritanceStrategy
+            inheritanceScope,
+            new ArrayList<>()
         );
 
-        mergeInheritedOptions( new SourceMethod( mappingMethod ), ctx );
+        return mergeInheritedOptions( new SourceMethod( mappingMethod ), ctx ).stream();
+    }
 
-        return ctx.mappedTargets.stream();
+    /**
+     * Find the methods that mapping methods of the {@code mapperClass} can inherit from and the configured
+     * {@link MappingInheritanceStrategy}. These are the same for all the mapping methods of a mapper, so they are
+     * computed once per mapper class and recomputed after a PSI modification.
+     *
+     * @param mapperClass the mapper class
+     *
+     * @return the inheritance scope of the mapper, or {@code null} if the class is not annotated with
+     * {@link org.mapstruct.Mapper}
+     */
+    @Nullable
+    private static InheritanceScope findInheritanceScope(@NotNull PsiClass mapperClass) {
+        return CachedValuesManager.getCachedValue( mapperClass, INHERITANCE_SCOPE_KEY, () -> {
+            PsiAnnotation mapperAnnotation = findAnnotation( mapperClass, MAPPER_ANNOTATION_FQN );
+            InheritanceScope inheritanceScope = null;
+            if ( mapperAnnotation != null ) {
+                // The prototype methods are part of the inherit scope as well
+                Set<SourceMethod> availableMethods =
+                    findMappingMethodsFromInheritScope( mapperClass, mapperAnnotation )
+                        .map( SourceMethod::new )
+                        .collect( Collectors.toCollection( LinkedHashSet::new ) );
+                List<SourceMethod> prototypeMethods = findPrototypeMappingMethods( mapperAnnotation )
+                    .map( SourceMethod::new )
+                    .collect( Collectors.toList() );
+                inheritanceScope = new InheritanceScope(
+                    new TemplateCandidates( Collections.unmodifiableSet( availableMethods ) ),
+                    new TemplateCandidates( Collections.unmodifiableList( prototypeMethods ) ),
+                    findAnnotatedMappingInheritanceStrategy( mapperAnnotation )
+                );
+            }
+
+            return CachedValueProvider.Result.create(
+                inheritanceScope,
+                PsiModificationTracker.getInstance( mapperClass.getProject() )
+            );
+        } );
     }
 
     /**
      * Merges inherited properties in a recursive way.
+     * <p>
+     * The merged targets of a method are memoized in the inheritance scope of the mapper, so every method of an
+     * inheritance chain is only resolved once, regardless of how many methods inherit from it. Methods that are part
+     * of a cycle, but are not the method at which the cycle has been entered, only see a part of the cycle and are
+     * therefore not memoized.
      *
      * @param method method to merge properties by inheritance
      * @param ctx context that helps with inheritance
+     * @return the targets that are mapped through inheritance
      * @see "org.mapstruct.ap.internal.processor.MapperCreationProcessor#mergeInheritedOptions"
      */
-    private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull InheritConfigurationContext ctx) {
+    @NotNull
+    private static Set<String> mergeInheritedOptions(@NotNull SourceMethod method,
+                                                     @NotNull InheritConfigurationContext ctx) {
 
-        if ( ctx.initializingMethods.contains( method ) ) {
-            // cycle detected
-            ctx.initializingMethods.add( method );
-            return;
+        Set<String> memoizedTargets = ctx.mergedTargets.get( method );
+        if ( memoizedTargets != null ) {
+            return memoizedTargets;
+        }
+
+        int cycleStart = ctx.initializingMethods.indexOf( method );
+        if ( cycleStart >= 0 ) {
+            // cycle detected, the targets of the method are collected by the invocation that is initializing it
+            ctx.incompleteMethods.addAll(
+                ctx.initializingMethods.subList( cycleStart + 1, ctx.initializingMethods.size() )
+            );
+            return Collections.emptySet();
         }
 
         ctx.initializingMethods.add( method );
+        Set<String> mappedTargets = new HashSet<>();
 
         PsiType targetType = getRelevantType( method.method );
 
         Set<SourceMethod> applicablePrototypeMethods = getApplicablePrototypeMethods(
             method,
             targetType,
-            ctx.prototypeMethods
+            ctx.prototypeMethods.forwardCandidates( targetType )
         );
 
         SourceMethod forwardTemplateMethod =
             getForwardTemplateMethod(
-                join( ctx.availableMethods, applicablePrototypeMethods ),
+                ctx.availableMethods.forwardCandidates( targetType ),
                 method,
-                targetType,
-                ctx
+                targetType
             );
 
         Set<SourceMethod> applicableReversePrototypeMethods = getApplicableReversePrototypeMethods(
             method,
             targetType,
-            ctx.prototypeMethods
+            ctx.prototypeMethods.inverseCandidates( targetType )
         );
 
         SourceMethod inverseTemplateMethod =
             getInverseTemplateMethod(
-                join( ctx.availableMethods, applicableReversePrototypeMethods ),
+                ctx.availableMethods.inverseCandidates( targetType ),
                 method,
-                targetType,
-                ctx
+                targetType
             );
 
         // apply defined (@InheritConfiguration, @InheritInverseConfiguration) mappings
         if ( forwardTemplateMethod != null ) {
+            mappedTargets.addAll( mergeInheritedOptions( forwardTemplateMethod, ctx ) );
             findAllDefinedMappingTargets( forwardTemplateMethod.method, ctx.mapStructVersion )
-                .forEach( ctx.mappedTargets::add );
+                .forEach( mappedTargets::add );
         }
         if ( inverseTemplateMethod != null ) {
+            mappedTargets.addAll( mergeInheritedOptions( inverseTemplateMethod, ctx ) );
             findAllDefinedMappingSources( inverseTemplateMethod.method, ctx.mapStructVersion )
-                .forEach( ctx.mappedTargets::add );
+                .forEach( mappedTargets::add );
         }
 
         // apply auto inherited options
@@ -147,7 +204,7 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
             if ( forwardTemplateMethod == null && applyForward ) {
                 if ( applicablePrototypeMethods.size() == 1 ) {
                     findAllDefinedMappingTargets( first( applicablePrototypeMethods ).method, ctx.mapStructVersion )
-                        .forEach( ctx.mappedTargets::add );
+                        .forEach( mappedTargets::add );
                 }
             }
 
@@ -160,18 +217,24 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
                             first( applicableReversePrototypeMethods ).method,
                             ctx.mapStructVersion
                         )
-                        .forEach( ctx.mappedTargets::add );
+                        .forEach( mappedTargets::add );
                 }
             }
         }
 
-        method.fullyInitialized = true;
+        ctx.initializingMethods.remove( ctx.initializingMethods.size() - 1 );
+
+        Set<String> result = Collections.unmodifiableSet( mappedTargets );
+        if ( !ctx.incompleteMethods.contains( method ) ) {
+            ctx.mergedTargets.put( method, result );
+        }
+
+        return result;
     }
 
     private static SourceMethod getInverseTemplateMethod(
-        Set<SourceMethod> rawMethods, SourceMethod mappingMethod,
-        PsiType targetType,
-        InheritConfigurationContext ctx
+        Collection<SourceMethod> rawMethods, SourceMethod mappingMethod,
+        PsiType targetType
     ) {
 
         SourceMethod resultMethod = null;
@@ -191,14 +254,13 @@ private static SourceMethod getInverseTemplateMethod(
             resultMethod = getResultMethod( inverseConfiguration, candidates );
         }
 
-        return extractInitializedOptions( resultMethod, ctx );
+        return resultMethod;
     }
 
     private static SourceMethod getForwardTemplateMethod(
-        Set<SourceMethod> rawMethods,
+        Collection<SourceMethod> rawMethods,
         SourceMethod mappingMethod,
-        PsiType targetType,
-        InheritConfigurationContext ctx
+        PsiType targetType
     ) {
 
         SourceMethod resultMethod = null;
@@ -219,7 +281,7 @@ private static SourceMethod getForwardTemplateMethod(
             resultMethod = getResultMethod( inheritConfiguration, candidates );
         }
 
-        return extractInitializedOptions( resultMethod, ctx );
+        return resultMethod;
     }
 
     private static SourceMethod getResultMethod(
@@ -254,20 +316,9 @@ else if ( candidates.size() > 1 ) {
         return null;
     }
 
-    private static SourceMethod extractInitializedOptions(SourceMethod method, InheritConfigurationContext ctx) {
-        if ( method != null ) {
-            if ( !method.fullyInitialized ) {
-                mergeInheritedOptions( method, ctx );
-            }
-            return method;
-        }
-
-        return null;
-    }
-
     private static Set<SourceMethod> getApplicableReversePrototypeMethods(SourceMethod mappingMethod,
                                                                           PsiType targetType,
-                                                                          List<SourceMethod> prototypeMethods) {
+                                                                          Collection<SourceMethod> prototypeMethods) {
         return prototypeMethods.stream()
             .filter( candidate -> mappingMethod.inverses( candidate.method, targetType ) )
             .collect( Collectors.toUnmodifiableSet() );
@@ -275,7 +326,7 @@ private static Set<SourceMethod> getApplicableReversePrototypeMethods(SourceMeth
 
     private static Set<SourceMethod> getApplicablePrototypeMethods(SourceMethod mappingMethod,
                                                                    PsiType targetType,
-                                                                   List<SourceMethod> prototypeMethods) {
+                                                                   Collection<SourceMethod> prototypeMethods) {
 
         return prototypeMethods.stream()
             .filter( candidate -> mappingMethod.canInheritFrom( candidate.method, targetType ) )
@@ -337,37 +388,55 @@ private static MappingInheritanceStrategy tryParseMappingInheritanceStrategy(Str
         }
     }
 
-    @NotNull
-    private static <T> Set<T> join(Collection<T> a, Collection<T> b) {
-        return Stream.concat( a.stream(), b.stream() ).collect( Collectors.toUnmodifiableSet() );
-    }
-
     private static <T> T first(Collection<T> collection) {
         return collection.stream().findFirst().orElse( null );
     }
 
+    private static class InheritanceScope {
+
+        @NotNull
+        private final TemplateCandidates availableMethods;
+        @NotNull
+        private final TemplateCandidates prototypeMethods;
+        private final MappingInheritanceStrategy inheritanceStrategy;
+        private final ConcurrentMap<MapStructVersion, ConcurrentMap<SourceMethod, Set<String>>> mergedTargets =
+            new ConcurrentHashMap<>();
+
+        private InheritanceScope(@NotNull TemplateCandidates availableMethods,
+                                 @NotNull TemplateCandidates prototypeMethods,
+                                 MappingInheritanceStrategy inheritanceStrategy) {
+            this.availableMethods = availableMethods;
+            this.prototypeMethods = prototypeMethods;
+            this.inheritanceStrategy = inheritanceStrategy;
+        }
+    }
+
     private static class InheritConfigurationContext {
 
         private final MapStructVersion mapStructVersion;
         @NotNull
-        private final List<SourceMethod> availableMethods;
+        private final TemplateCandidates availableMethods;
         @NotNull
-        private final List<SourceMethod> prototypeMethods;
+        private final TemplateCandidates prototypeMethods;
         @NotNull
         private final List<SourceMethod> initializingMethods;
         private final MappingInheritanceStrategy inheritanceStrategy;
-        private final Set<String> mappedTargets = new HashSet<>();
+        @NotNull
+        private final Map<SourceMethod, Set<String>> mergedTargets;
+        private final Set<SourceMethod> incompleteMethods = new HashSet<>();
 
         private InheritConfigurationContext(MapStructVersion mapStructVersion,
-                                            @NotNull List<SourceMethod> availableMethods,
-                                            @NotNull List<SourceMethod> prototypeMethods,
-                                            @NotNull List<SourceMethod> initializingMethods,
-                                            MappingInheritanceStrategy inheritanceStrategy) {
+                                            @NotNull InheritanceScope inheritanceScope,
+                                            @NotNull List<SourceMethod> initializingMethods) {
             this.mapStructVersion = mapStructVersion;
-            this.availableMethods = availableMethods;
-            this.prototypeMethods = prototypeMethods;
+            this.availableMethods = inheritanceScope.availableMethods;
+            this.prototypeMethods = inheritanceScope.prototypeMethods;
             this.initializingMethods = initializingMethods;
-            this.inheritanceStrategy = inheritanceStrategy;
+            this.inheritanceStrategy = inheritanceScope.inheritanceStrategy;
+            this.mergedTargets = inheritanceScope.mergedTargets.computeIfAbsent(
+                mapStructVersion,
+                version -> new ConcurrentHashMap<>()
+            );
         }
     }
 }
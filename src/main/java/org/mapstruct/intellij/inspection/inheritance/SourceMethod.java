@@ -27,12 +27,10 @@
  */
 public class SourceMethod {
 
-    PsiMethod method;
-    boolean fullyInitialized;
+    final PsiMethod method;
 
     public SourceMethod(PsiMethod method) {
         this.method = method;
-        this.fullyInitialized = false;
     }
 
     /**
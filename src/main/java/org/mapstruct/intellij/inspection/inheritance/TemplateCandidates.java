@@ -0,0 +1,147 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection.inheritance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.util.InheritanceUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.mapstruct.intellij.util.TargetUtils.getRelevantType;
+
+/**
+ * The methods that can be used as templates for {@link org.mapstruct.InheritConfiguration} and
+ * {@link org.mapstruct.InheritInverseConfiguration}, bucketed by the erased class of the type that has to be
+ * assignable from the mapping method.
+ * <ul>
+ *     <li>forward candidates are bucketed by their target type</li>
+ *     <li>inverse candidates are bucketed by the type of their single source parameter</li>
+ * </ul>
+ * A lookup only returns the buckets of the classes the type of the mapping method can be assigned to, and the
+ * candidates that cannot be bucketed (primitives, arrays, type parameters, ...). The returned candidates still need
+ * to be checked with {@link SourceMethod#canInheritFrom(PsiMethod, PsiType)} and
+ * {@link SourceMethod#inverses(PsiMethod, PsiType)}.
+ */
+final class TemplateCandidates {
+
+    private final Collection<SourceMethod> allCandidates;
+    private final Map<String, List<SourceMethod>> forwardCandidates = new HashMap<>();
+    private final List<SourceMethod> unbucketedForwardCandidates = new ArrayList<>();
+    private final Map<String, List<SourceMethod>> inverseCandidates = new HashMap<>();
+    private final List<SourceMethod> unbucketedInverseCandidates = new ArrayList<>();
+
+    TemplateCandidates(@NotNull Collection<SourceMethod> candidates) {
+        this.allCandidates = candidates;
+        for ( SourceMethod candidate : candidates ) {
+            PsiMethod method = candidate.method;
+            if ( method.getBody() != null ) {
+                // only abstract methods can be templates
+                continue;
+            }
+
+            PsiType candidateTargetType = getRelevantType( method );
+            if ( candidateTargetType == null ) {
+                continue;
+            }
+
+            add( candidate, candidateTargetType, forwardCandidates, unbucketedForwardCandidates );
+
+            PsiParameter[] parameters = method.getParameterList().getParameters();
+            if ( parameters.length == 1 ) {
+                add( candidate, parameters[0].getType(), inverseCandidates, unbucketedInverseCandidates );
+            }
+        }
+    }
+
+    /**
+     * @param targetType the target type of the mapping method
+     *
+     * @return the candidates that the mapping method could inherit the configuration from
+     */
+    @NotNull
+    Collection<SourceMethod> forwardCandidates(@Nullable PsiType targetType) {
+        return candidates( targetType, forwardCandidates, unbucketedForwardCandidates );
+    }
+
+    /**
+     * @param targetType the target type of the mapping method
+     *
+     * @return the candidates that the mapping method could inherit the inverse configuration from
+     */
+    @NotNull
+    Collection<SourceMethod> inverseCandidates(@Nullable PsiType targetType) {
+        return candidates( targetType, inverseCandidates, unbucketedInverseCandidates );
+    }
+
+    @NotNull
+    private Collection<SourceMethod> candidates(@Nullable PsiType type, Map<String, List<SourceMethod>> buckets,
+                                                List<SourceMethod> unbucketed) {
+        PsiClass psiClass = bucketClass( type );
+        if ( psiClass == null ) {
+            // we can't know to which classes the type is assignable, all candidates need to be checked
+            return allCandidates;
+        }
+
+        Set<SourceMethod> candidates = new LinkedHashSet<>( unbucketed );
+        InheritanceUtil.processSupers( psiClass, true, superClass -> {
+            List<SourceMethod> bucket = buckets.get( superClass.getQualifiedName() );
+            if ( bucket != null ) {
+                candidates.addAll( bucket );
+            }
+            return true;
+        } );
+
+        if ( psiClass.isInterface() ) {
+            // interfaces don't have java.lang.Object as super class, but are assignable to it
+            List<SourceMethod> bucket = buckets.get( CommonClassNames.JAVA_LANG_OBJECT );
+            if ( bucket != null ) {
+                candidates.addAll( bucket );
+            }
+        }
+
+        return candidates;
+    }
+
+    private static void add(SourceMethod candidate, PsiType type, Map<String, List<SourceMethod>> buckets,
+                            List<SourceMethod> unbucketed) {
+        PsiClass psiClass = bucketClass( type );
+        if ( psiClass == null ) {
+            unbucketed.add( candidate );
+        }
+        else {
+            buckets.computeIfAbsent( psiClass.getQualifiedName(), qualifiedName -> new ArrayList<>() )
+                .add( candidate );
+        }
+    }
+
+    @Nullable
+    private static PsiClass bucketClass(@Nullable PsiType type) {
+        if ( !( type instanceof PsiClassType classType ) ) {
+            return null;
+        }
+
+        PsiClass psiClass = classType.resolve();
+        if ( psiClass == null || psiClass instanceof PsiTypeParameter || psiClass.getQualifiedName() == null ) {
+            return null;
+        }
+
+        return psiClass;
+    }
+}
@@ -5,9 +5,12 @@
  */
 package org.mapstruct.intellij.search;
 
+import java.util.Collection;
+
 import com.intellij.openapi.application.QueryExecutorBase;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiAnonymousClass;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
@@ -22,6 +25,7 @@
 import com.intellij.psi.search.searches.ReferencesSearch;
 import com.intellij.util.Processor;
 import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.index.MappingPropertyIndex;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 /**
@@ -81,15 +85,29 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
         }
 
         DumbService.getInstance( p.getProject() ).runReadActionInSmartMode( () -> {
+            // Only the files that use the property in a mapping can contain references, there is no need to
+            // look at all the text occurrences of the property name
+            Collection<VirtualFile> mappingFiles = MappingPropertyIndex.findFilesWithProperty(
+                propertyName[0],
+                searchScope instanceof GlobalSearchScope globalSearchScope ? globalSearchScope :
+                    GlobalSearchScope.allScope( p.getProject() )
+            );
+            if ( mappingFiles.isEmpty() ) {
+                return null;
+            }
+            SearchScope mappingFilesScope = searchScope.intersectWith(
+                GlobalSearchScope.filesScope( p.getProject(), mappingFiles )
+            );
+
             final PsiMethod[] methods =
                 strictSignatureSearch ? new PsiMethod[] { method } : aClass.findMethodsByName( propertyName[0], false );
 
-            short searchContext =
-                UsageSearchContext.IN_CODE | UsageSearchContext.IN_COMMENTS | UsageSearchContext.IN_FOREIGN_LANGUAGES;
+            short searchContext = UsageSearchContext.IN_CODE | UsageSearchContext.IN_STRINGS |
+                UsageSearchContext.IN_FOREIGN_LANGUAGES;
             for ( PsiMethod m : methods ) {
                 collector.searchWord(
                     propertyName[0],
-                    searchScope.intersectWith( m.getUseScope() ),
+                    mappingFilesScope.intersectWith( m.getUseScope() ),
                     searchContext,
                     true,
                     m,
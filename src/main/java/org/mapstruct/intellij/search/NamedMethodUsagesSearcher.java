@@ -0,0 +1,96 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.UsageSearchContext;
+import com.intellij.psi.search.searches.ClassInheritorsSearch;
+import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperUsesIndex;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
+import static org.mapstruct.intellij.util.MapstructUtil.NAMED_ANNOTATION_FQN;
+
+/**
+ * Methods usages searcher for the {@code qualifiedByName} values that reference a {@link org.mapstruct.Named}
+ * method.
+ * <p>
+ * A named method can only be referenced from the class that declares it, from its inheritors, and from the mappers
+ * and mapper configs that use the class, directly or through their {@code config}. The latter are looked up with the
+ * {@link MapperUsesIndex}, so only the files of those classes are searched for the name of the qualifier.
+ */
+public class NamedMethodUsagesSearcher
+    extends QueryExecutorBase<PsiReference, MethodReferencesSearch.SearchParameters> {
+
+    @Override
+    public void processQuery(@NotNull MethodReferencesSearch.SearchParameters p,
+                             @NotNull Processor<? super PsiReference> consumer) {
+        PsiMethod method = p.getMethod();
+        Project project = p.getProject();
+
+        DumbService.getInstance( project ).runReadActionInSmartMode( () -> {
+            PsiClass containingClass = method.getContainingClass();
+            String qualifierName = getQualifierName( method );
+            if ( containingClass == null || StringUtil.isEmpty( qualifierName ) ) {
+                return;
+            }
+
+            SearchScope searchScope = p.getEffectiveSearchScope();
+            GlobalSearchScope indexScope = searchScope instanceof GlobalSearchScope globalSearchScope ?
+                globalSearchScope : GlobalSearchScope.allScope( project );
+
+            Set<PsiClass> referencingClasses = new LinkedHashSet<>();
+            referencingClasses.add( containingClass );
+            referencingClasses.addAll( ClassInheritorsSearch.search( containingClass, indexScope, true ).findAll() );
+            referencingClasses.addAll( MapperUsesIndex.findUsingMappers( containingClass, indexScope ) );
+
+            Set<VirtualFile> files = new LinkedHashSet<>();
+            for ( PsiClass referencingClass : referencingClasses ) {
+                PsiFile file = referencingClass.getContainingFile();
+                VirtualFile virtualFile = file == null ? null : file.getVirtualFile();
+                if ( virtualFile != null ) {
+                    files.add( virtualFile );
+                }
+            }
+
+            if ( files.isEmpty() ) {
+                return;
+            }
+
+            p.getOptimizer().searchWord(
+                qualifierName,
+                searchScope.intersectWith( GlobalSearchScope.filesScope( project, files ) ),
+                UsageSearchContext.IN_STRINGS,
+                true,
+                method
+            );
+        } );
+    }
+
+    @Nullable
+    private static String getQualifierName(@NotNull PsiMethod method) {
+        PsiAnnotation namedAnnotation = findAnnotation( method, true, NAMED_ANNOTATION_FQN );
+        return namedAnnotation == null ? null : getStringAttributeValue( namedAnnotation, "value" );
+    }
+}
@@ -19,6 +19,10 @@ public interface ProjectSettings {
     String PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING =
         PREFIX + "PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING";
 
+    String NESTED_PATH_COMPLETION_DEPTH = PREFIX + "NESTED_PATH_COMPLETION_DEPTH";
+
+    int DEFAULT_NESTED_PATH_COMPLETION_DEPTH = 3;
+
     static boolean isPreferSourceBeforeTargetInMapping(@NotNull Project project) {
         return PropertiesComponent.getInstance( project ).getBoolean( PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING, false );
     }
@@ -27,4 +31,20 @@ static void setPreferSourceBeforeTargetInMapping(@NotNull Project project, boole
         PropertiesComponent.getInstance( project )
             .setValue( PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING, String.valueOf( value ), "false" );
     }
+
+    /**
+     * @param project the project
+     *
+     * @return the maximum number of segments of the nested paths, e.g. {@code customer.address.street}, that are
+     * proposed when the completion is invoked a second time
+     */
+    static int getNestedPathCompletionDepth(@NotNull Project project) {
+        return PropertiesComponent.getInstance( project )
+            .getInt( NESTED_PATH_COMPLETION_DEPTH, DEFAULT_NESTED_PATH_COMPLETION_DEPTH );
+    }
+
+    static void setNestedPathCompletionDepth(@NotNull Project project, int value) {
+        PropertiesComponent.getInstance( project )
+            .setValue( NESTED_PATH_COMPLETION_DEPTH, value, DEFAULT_NESTED_PATH_COMPLETION_DEPTH );
+    }
 }
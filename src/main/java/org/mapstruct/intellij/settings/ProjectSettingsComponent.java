@@ -10,6 +10,7 @@
 import javax.swing.JPanel;
 
 import com.intellij.ui.IdeBorderFactory;
+import com.intellij.ui.JBIntSpinner;
 import com.intellij.ui.components.JBCheckBox;
 import com.intellij.util.ui.FormBuilder;
 import org.mapstruct.intellij.MapStructBundle;
@@ -19,8 +20,11 @@
  */
 public class ProjectSettingsComponent {
 
+    private static final int MAX_NESTED_PATH_COMPLETION_DEPTH = 10;
+
     private final JPanel mainPanel;
     private final JBCheckBox preferSourceBeforeTargetInMapping;
+    private final JBIntSpinner nestedPathCompletionDepth;
 
     public ProjectSettingsComponent() {
         this.preferSourceBeforeTargetInMapping = new JBCheckBox( MapStructBundle.message(
@@ -30,8 +34,24 @@ public ProjectSettingsComponent() {
             "plugin.settings.quickFix.title" ), false ) );
 
         quickFixProperties.add( this.preferSourceBeforeTargetInMapping, BorderLayout.NORTH );
+
+        this.nestedPathCompletionDepth = new JBIntSpinner(
+            ProjectSettings.DEFAULT_NESTED_PATH_COMPLETION_DEPTH,
+            1,
+            MAX_NESTED_PATH_COMPLETION_DEPTH
+        );
+        JPanel completionProperties = FormBuilder.createFormBuilder()
+            .addLabeledComponent(
+                MapStructBundle.message( "plugin.settings.completion.nestedPathDepth" ),
+                this.nestedPathCompletionDepth
+            )
+            .getPanel();
+        completionProperties.setBorder( IdeBorderFactory.createTitledBorder( MapStructBundle.message(
+            "plugin.settings.completion.title" ), false ) );
+
         this.mainPanel = FormBuilder.createFormBuilder()
             .addComponent( quickFixProperties )
+            .addComponent( completionProperties )
             .addComponentFillVertically( new JPanel(), 0 )
             .getPanel();
     }
@@ -52,4 +72,12 @@ public void setPreferSourceBeforeTargetInMapping(boolean newState) {
         preferSourceBeforeTargetInMapping.setSelected( newState );
     }
 
+    public int getNestedPathCompletionDepth() {
+        return nestedPathCompletionDepth.getNumber();
+    }
+
+    public void setNestedPathCompletionDepth(int newDepth) {
+        nestedPathCompletionDepth.setNumber( newDepth );
+    }
+
 }
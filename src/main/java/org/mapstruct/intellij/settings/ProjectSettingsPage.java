@@ -12,6 +12,7 @@
 import org.jetbrains.annotations.Nls;
 import org.mapstruct.intellij.MapStructBundle;
 
+import static org.mapstruct.intellij.settings.ProjectSettings.getNestedPathCompletionDepth;
 import static org.mapstruct.intellij.settings.ProjectSettings.isPreferSourceBeforeTargetInMapping;
 
 /**
@@ -47,7 +48,8 @@ public JComponent getPreferredFocusedComponent() {
     @Override
     public boolean isModified() {
         return settingsComponent.getPreferSourceBeforeTargetInMapping() !=
-            isPreferSourceBeforeTargetInMapping( myProject );
+            isPreferSourceBeforeTargetInMapping( myProject ) ||
+            settingsComponent.getNestedPathCompletionDepth() != getNestedPathCompletionDepth( myProject );
     }
 
     @Override
@@ -56,11 +58,16 @@ public void apply() {
             myProject,
             settingsComponent.getPreferSourceBeforeTargetInMapping()
         );
+        ProjectSettings.setNestedPathCompletionDepth(
+            myProject,
+            settingsComponent.getNestedPathCompletionDepth()
+        );
     }
 
     @Override
     public void reset() {
         settingsComponent.setPreferSourceBeforeTargetInMapping( isPreferSourceBeforeTargetInMapping( myProject ) );
+        settingsComponent.setNestedPathCompletionDepth( getNestedPathCompletionDepth( myProject ) );
     }
 
     @Override
@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.psi.PsiAnnotation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pre-parsed {@link org.mapstruct.Mapping} annotation defined on a mapping method (directly, through
+ * {@link org.mapstruct.Mappings} or through a meta annotation).
+ *
+ * @param annotation the {@link org.mapstruct.Mapping} annotation
+ * @param target the declared {@link org.mapstruct.Mapping#target()} or {@code null} if it is not a constant string
+ * @param source the declared {@link org.mapstruct.Mapping#source()} or {@code null} if it is not a constant string
+ * @param constant the declared {@link org.mapstruct.Mapping#constant()} or {@code null} if it is not a constant
+ * string
+ * @param expression the declared {@link org.mapstruct.Mapping#expression()} or {@code null} if it is not a constant
+ * string
+ * @param ignore the value of {@link org.mapstruct.Mapping#ignore()}
+ */
+public record DefinedMapping(@NotNull PsiAnnotation annotation, @Nullable String target, @Nullable String source,
+                             @Nullable String constant, @Nullable String expression, boolean ignore) {
+
+    static DefinedMapping of(@NotNull PsiAnnotation annotation) {
+        return new DefinedMapping(
+            annotation,
+            AnnotationUtil.getDeclaredStringAttributeValue( annotation, "target" ),
+            AnnotationUtil.getDeclaredStringAttributeValue( annotation, "source" ),
+            AnnotationUtil.getDeclaredStringAttributeValue( annotation, "constant" ),
+            AnnotationUtil.getDeclaredStringAttributeValue( annotation, "expression" ),
+            Boolean.TRUE.equals( AnnotationUtil.getBooleanAttributeValue( annotation, "ignore" ) )
+        );
+    }
+}
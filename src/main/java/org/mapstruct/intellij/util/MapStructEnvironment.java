@@ -0,0 +1,167 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.List;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.Builder;
+import org.mapstruct.EnumMapping;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
+
+/**
+ * An immutable snapshot of what MapStruct (and the libraries MapStruct integrates with) a module has on its
+ * classpath. The snapshot is computed once per module and recomputed when the project roots change.
+ *
+ * @param mapStructPresent {@code true} if MapStruct is on the classpath of the module
+ * @param version the MapStruct version of the module
+ * @param mapStructJdk8Present {@code true} if the {@link org.mapstruct.Mapping} annotation is annotated with
+ * {@link java.lang.annotation.Repeatable}
+ * @param immutablesPresent {@code true} if Immutables is on the classpath of the module
+ * @param freeBuilderPresent {@code true} if FreeBuilder is on the classpath of the module
+ */
+public record MapStructEnvironment(boolean mapStructPresent, @NotNull MapStructVersion version,
+                                   boolean mapStructJdk8Present, boolean immutablesPresent,
+                                   boolean freeBuilderPresent) {
+
+    private static final String BUILDER_ANNOTATION_FQN = Builder.class.getName();
+    private static final String ENUM_MAPPING_ANNOTATION_FQN = EnumMapping.class.getName();
+    private static final String IMMUTABLE_FQN = "org.immutables.value.Value.Immutable";
+    private static final String FREE_BUILDER_FQN = "org.inferred.freebuilder.FreeBuilder";
+
+    //TODO If we can somehow get access to all the AnnotationBasedComponentModelProcessor and extract
+    // their getComponentModelIdentifier then we can use those. I don't know how to do this within the plugin
+    private static final List<String> COMPONENT_MODELS = List.of( "default", "cdi", "spring", "jsr330" );
+
+    private static final MapStructEnvironment NO_MAPSTRUCT = new MapStructEnvironment(
+        false,
+        MapStructVersion.V1_2_O,
+        false,
+        false,
+        false
+    );
+
+    /**
+     * @return {@code true} if the MapStruct version of the module supports builders
+     */
+    public boolean isBuilderSupported() {
+        return version.isBuilderSupported();
+    }
+
+    /**
+     * @return the component models that can be used in {@link org.mapstruct.Mapper#componentModel()}
+     */
+    @NotNull
+    public List<String> componentModels() {
+        return COMPONENT_MODELS;
+    }
+
+    /**
+     * @return the {@link MapstructUtil} that matches the builder libraries of the module
+     */
+    @NotNull
+    public MapstructUtil mapstructUtil() {
+        if ( immutablesPresent ) {
+            return ImmutablesMapstructUtil.INSTANCE;
+        }
+
+        if ( freeBuilderPresent ) {
+            return FreeBuildersMapstructUtil.INSTANCE;
+        }
+
+        return MapstructUtil.INSTANCE;
+    }
+
+    /**
+     * Get the environment of the module in which the {@code psiFile} is located.
+     *
+     * @param psiFile the file for which the environment is needed
+     *
+     * @return the environment of the module of the file, an environment without MapStruct if the file does not
+     * belong to a module
+     */
+    @NotNull
+    public static MapStructEnvironment getInstance(@Nullable PsiFile psiFile) {
+        if ( psiFile == null ) {
+            return NO_MAPSTRUCT;
+        }
+
+        VirtualFile virtualFile = psiFile.getOriginalFile().getVirtualFile();
+        if ( virtualFile == null ) {
+            return NO_MAPSTRUCT;
+        }
+
+        Module module = ModuleUtilCore.findModuleForFile( virtualFile, psiFile.getProject() );
+        return module == null ? NO_MAPSTRUCT : getInstance( module );
+    }
+
+    /**
+     * Get the environment of the {@code module}.
+     *
+     * @param module the module for which the environment is needed
+     *
+     * @return the environment of the module
+     */
+    @NotNull
+    public static MapStructEnvironment getInstance(@NotNull Module module) {
+        return CachedValuesManager.getManager( module.getProject() ).getCachedValue(
+            module,
+            () -> CachedValueProvider.Result.createSingleDependency(
+                compute( module ),
+                ProjectRootManager.getInstance( module.getProject() )
+            )
+        );
+    }
+
+    @NotNull
+    private static MapStructEnvironment compute(@NotNull Module module) {
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( module.getProject() );
+        GlobalSearchScope scope = module.getModuleRuntimeScope( false );
+
+        boolean mapStructPresent = javaPsiFacade.findClass( MAPPER_ANNOTATION_FQN, scope ) != null;
+
+        MapStructVersion version;
+        if ( javaPsiFacade.findClass( ENUM_MAPPING_ANNOTATION_FQN, scope ) != null ) {
+            version = MapStructVersion.V1_4_O;
+        }
+        else if ( javaPsiFacade.findClass( BUILDER_ANNOTATION_FQN, scope ) != null ) {
+            version = MapStructVersion.V1_3_O;
+        }
+        else {
+            version = MapStructVersion.V1_2_O;
+        }
+
+        PsiClass mappingAnnotation = javaPsiFacade.findClass( MAPPING_ANNOTATION_FQN, scope );
+        boolean mapStructJdk8Present = findAnnotation(
+            mappingAnnotation,
+            true,
+            CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
+        ) != null;
+
+        return new MapStructEnvironment(
+            mapStructPresent,
+            version,
+            mapStructJdk8Present,
+            javaPsiFacade.findClass( IMMUTABLE_FQN, scope ) != null,
+            javaPsiFacade.findClass( FREE_BUILDER_FQN, scope ) != null
+        );
+    }
+}
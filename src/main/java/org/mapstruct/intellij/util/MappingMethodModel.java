@@ -0,0 +1,171 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.ReportingPolicy;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
+
+/**
+ * The information about a mapping method that is needed by the different inspections. The model is created once
+ * per method and modification count, and shared between all the inspections that run on the method. The more
+ * expensive parts are only computed when they are requested.
+ * <p>
+ * Callers are expected to check that the method is defined in a {@link org.mapstruct.Mapper} before requesting
+ * its model.
+ */
+public final class MappingMethodModel {
+
+    private static final Key<CachedValue<MappingMethodModel>> MODEL_KEY = Key.create( "MapStructMappingMethodModel" );
+
+    private final PsiMethod method;
+    private final MapStructVersion mapStructVersion;
+    private final PsiType targetType;
+    private final PsiParameter[] sourceParameters;
+    private final List<DefinedMapping> definedMappings;
+    private final NotNullLazyValue<ReportingPolicy> unmappedTargetPolicy;
+    private final NotNullLazyValue<Boolean> builderEnabled;
+    private final NotNullLazyValue<Boolean> ignoreByDefault;
+    private final NotNullLazyValue<Set<String>> sourceProperties;
+
+    private MappingMethodModel(@NotNull PsiMethod method, @NotNull MapStructVersion mapStructVersion) {
+        this.method = method;
+        this.mapStructVersion = mapStructVersion;
+        this.targetType = TargetUtils.getTargetType( method );
+        this.sourceParameters = MapstructUtil.getSourceParameters( method );
+        this.definedMappings = MapstructAnnotationUtils.findAllDefinedMappings( method, mapStructVersion );
+        this.unmappedTargetPolicy = NotNullLazyValue.atomicLazy(
+            () -> MapstructAnnotationUtils.getUnmappedTargetPolicy( method )
+        );
+        this.builderEnabled = NotNullLazyValue.atomicLazy(
+            () -> TargetUtils.isBuilderEnabled( mapStructVersion, method )
+        );
+        this.ignoreByDefault = NotNullLazyValue.atomicLazy( () -> isBeanMappingIgnoreByDefault( method ) );
+        this.sourceProperties = NotNullLazyValue.atomicLazy( () -> SourceUtils.findAllSourceProperties( method ) );
+    }
+
+    /**
+     * Get the model for the given {@code method}.
+     *
+     * @param method the mapping method
+     *
+     * @return the model of the method
+     */
+    @NotNull
+    public static MappingMethodModel of(@NotNull PsiMethod method) {
+        return CachedValuesManager.getCachedValue( method, MODEL_KEY, () -> {
+            MapStructVersion mapStructVersion = MapStructEnvironment.getInstance( method.getContainingFile() )
+                .version();
+            return CachedValueProvider.Result.create(
+                new MappingMethodModel( method, mapStructVersion ),
+                PsiModificationTracker.getInstance( method.getProject() )
+            );
+        } );
+    }
+
+    @NotNull
+    public PsiMethod method() {
+        return method;
+    }
+
+    /**
+     * @return the MapStruct version of the module of the method
+     */
+    @NotNull
+    public MapStructVersion mapStructVersion() {
+        return mapStructVersion;
+    }
+
+    /**
+     * @return the target type of the method, {@code null} if the method is not a mapping method with a target
+     *
+     * @see TargetUtils#getTargetType(PsiMethod)
+     */
+    @Nullable
+    public PsiType targetType() {
+        return targetType;
+    }
+
+    /**
+     * @return the source parameters of the method
+     *
+     * @see MapstructUtil#getSourceParameters(PsiMethod)
+     */
+    @NotNull
+    public PsiParameter[] sourceParameters() {
+        return sourceParameters;
+    }
+
+    /**
+     * @return all the {@link org.mapstruct.Mapping} annotations defined on the method
+     */
+    @NotNull
+    public List<DefinedMapping> definedMappings() {
+        return definedMappings;
+    }
+
+    /**
+     * @return the effective unmapped target policy of the method
+     */
+    @NotNull
+    public ReportingPolicy unmappedTargetPolicy() {
+        return unmappedTargetPolicy.getValue();
+    }
+
+    /**
+     * @return {@code true} if builders can be used for the target of the method
+     *
+     * @see TargetUtils#isBuilderEnabled(MapStructVersion, PsiMethod)
+     */
+    public boolean isBuilderEnabled() {
+        return builderEnabled.getValue();
+    }
+
+    /**
+     * @return {@code true} if {@link org.mapstruct.BeanMapping#ignoreByDefault()} is enabled for the method
+     */
+    public boolean isIgnoreByDefault() {
+        return ignoreByDefault.getValue();
+    }
+
+    /**
+     * @return all the source properties of the method
+     *
+     * @see SourceUtils#findAllSourceProperties(PsiMethod)
+     */
+    @NotNull
+    public Set<String> sourceProperties() {
+        return sourceProperties.getValue();
+    }
+
+    private static boolean isBeanMappingIgnoreByDefault(@NotNull PsiMethod method) {
+        PsiAnnotation beanMapping = findAnnotation( method, true, MapstructUtil.BEAN_MAPPING_FQN );
+        if ( beanMapping != null ) {
+            Boolean ignoreByDefault = getBooleanAttributeValue( beanMapping, "ignoreByDefault" );
+            if ( ignoreByDefault != null ) {
+                return ignoreByDefault;
+            }
+        }
+
+        return false;
+    }
+}
@@ -5,16 +5,20 @@
  */
 package org.mapstruct.intellij.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.command.undo.UndoUtil;
 import com.intellij.openapi.editor.Editor;
@@ -26,6 +30,8 @@
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.Strings;
@@ -45,11 +51,18 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationParamListImpl;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.ReportingPolicy;
+import org.mapstruct.intellij.index.ComposedMappingAnnotationIndex;
+import org.mapstruct.intellij.index.IndexUtils;
+import org.mapstruct.intellij.index.MapperIndex;
 
 import static com.intellij.codeInsight.AnnotationUtil.arrayAttributeValues;
 import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
@@ -67,6 +80,12 @@ public class MapstructAnnotationUtils {
 
     private static final String UNMAPPED_TARGET_POLICY = "unmappedTargetPolicy";
 
+    private static final Key<CachedValue<List<DefinedMapping>>> DEFINED_MAPPINGS_KEY =
+        Key.create( "MapStructDefinedMappings" );
+    private static final Key<CachedValue<List<DefinedMapping>>> DEFINED_MAPPINGS_WITH_META_KEY =
+        Key.create( "MapStructDefinedMappingsWithMeta" );
+    private static final Key<CachedValue<MetaMappings>> META_MAPPINGS_KEY = Key.create( "MapStructMetaMappings" );
+
     private MapstructAnnotationUtils() {
     }
 
@@ -83,6 +102,35 @@ public static void addMappingAnnotation(@NotNull Project project,
                                             @NotNull PsiMethod mappingMethod,
                                             @NotNull PsiAnnotation mappingAnnotation,
                                             boolean moveCaretToEmptySourceAttribute) {
+        addMappingAnnotations(
+            project,
+            mappingMethod,
+            Collections.singletonList( mappingAnnotation ),
+            moveCaretToEmptySourceAttribute
+        );
+    }
+
+    /**
+     * This method adds all the {@code mappingAnnotations} to the given {@code mappingMethod} in a single write
+     * command, i.e. the {@link org.mapstruct.Mappings} container is only looked up and rewritten once, the
+     * file is only reformatted once and undo reverts all the annotations at once. It takes into consideration, the
+     * current mappings, language level and whether the {@link org.mapstruct.Mapping} repeatable annotation can be
+     * used.
+     *
+     * @param project the project
+     * @param mappingMethod the method to which the annotations need to be added
+     * @param mappingAnnotations the {@link org.mapstruct.Mapping} annotations
+     * @param moveCaretToEmptySourceAttribute whether the caret should be moved to the empty source attribute of the
+     * added annotation
+     */
+    public static void addMappingAnnotations(@NotNull Project project,
+                                             @NotNull PsiMethod mappingMethod,
+                                             @NotNull Collection<PsiAnnotation> mappingAnnotations,
+                                             boolean moveCaretToEmptySourceAttribute) {
+        if ( mappingAnnotations.isEmpty() ) {
+            return;
+        }
+
         Pair<PsiAnnotation, Optional<PsiAnnotation>> mappingsPair = findOrCreateMappingsAnnotation(
             project,
             mappingMethod
@@ -90,58 +138,82 @@ public static void addMappingAnnotation(@NotNull Project project,
         final PsiFile containingFile = mappingMethod.getContainingFile();
 
         PsiAnnotation containerAnnotation = mappingsPair.getFirst();
-        PsiAnnotation newAnnotation = createNewAnnotation(
-            project,
-            mappingMethod,
-            containerAnnotation,
-            mappingAnnotation
-        );
-        if ( newAnnotation != null ) {
-            if ( containerAnnotation != null && containerAnnotation.isPhysical() ) {
-                runWriteCommandAction(
-                    project,
-                    () -> {
-                        PsiElement replaced = containerAnnotation.replace( newAnnotation );
-
-                        if ( moveCaretToEmptySourceAttribute ) {
-                            moveCaretToEmptySourceAttribute( project, replaced );
-                        }
-                    },
-                    containingFile
-                );
-            }
-            else {
-                String fqn = containerAnnotation != null ? MapstructUtil.MAPPINGS_ANNOTATION_FQN :
-                    MapstructUtil.MAPPING_ANNOTATION_FQN;
-                PsiNameValuePair[] attributes = newAnnotation.getParameterList().getAttributes();
-                Optional<String> annotationToRemove = mappingsPair.getSecond()
-                    .map( PsiAnnotation::getQualifiedName );
-
-                runWriteCommandAction(
-                    project, () -> {
-                        // If there was a mapping annotation previously we need to remove it (it is already included
-                        // in the new attributes
-                        annotationToRemove
-                            .ifPresent( qualifiedName -> removePhysicalAnnotations(
-                                mappingMethod,
-                                qualifiedName
-                            ) );
-
-                        PsiAnnotation inserted = addPhysicalAnnotationTo(
-                            fqn,
-                            attributes,
+        if ( containerAnnotation == null ) {
+            // The repeatable Mapping annotation can be used, every annotation is added on its own
+            runWriteCommandAction(
+                project, () -> {
+                    PsiAnnotation inserted = null;
+                    for ( PsiAnnotation mappingAnnotation : mappingAnnotations ) {
+                        inserted = addPhysicalAnnotationTo(
+                            MapstructUtil.MAPPING_ANNOTATION_FQN,
+                            mappingAnnotation.getParameterList().getAttributes(),
                             mappingMethod.getModifierList()
                         );
                         JavaCodeStyleManager.getInstance( project ).shortenClassReferences( inserted );
+                    }
 
-                        if ( moveCaretToEmptySourceAttribute ) {
-                            moveCaretToEmptySourceAttribute( project, inserted );
-                        }
+                    if ( moveCaretToEmptySourceAttribute && inserted != null ) {
+                        moveCaretToEmptySourceAttribute( project, inserted );
+                    }
 
-                    }, containingFile );
+                }, containingFile );
 
-                UndoUtil.markPsiFileForUndo( containingFile );
-            }
+            UndoUtil.markPsiFileForUndo( containingFile );
+            return;
+        }
+
+        PsiAnnotation mappingsAnnotation = createNewAnnotation(
+            project,
+            mappingMethod,
+            containerAnnotation,
+            mappingAnnotations
+        );
+        if ( mappingsAnnotation == null ) {
+            return;
+        }
+
+        if ( containerAnnotation.isPhysical() ) {
+            runWriteCommandAction(
+                project,
+                () -> {
+                    PsiElement replaced = containerAnnotation.replace( mappingsAnnotation );
+
+                    if ( moveCaretToEmptySourceAttribute ) {
+                        moveCaretToEmptySourceAttribute( project, replaced );
+                    }
+                },
+                containingFile
+            );
+        }
+        else {
+            PsiNameValuePair[] attributes = mappingsAnnotation.getParameterList().getAttributes();
+            Optional<String> annotationToRemove = mappingsPair.getSecond()
+                .map( PsiAnnotation::getQualifiedName );
+
+            runWriteCommandAction(
+                project, () -> {
+                    // If there was a mapping annotation previously we need to remove it (it is already included
+                    // in the new attributes
+                    annotationToRemove
+                        .ifPresent( qualifiedName -> removePhysicalAnnotations(
+                            mappingMethod,
+                            qualifiedName
+                        ) );
+
+                    PsiAnnotation inserted = addPhysicalAnnotationTo(
+                        MapstructUtil.MAPPINGS_ANNOTATION_FQN,
+                        attributes,
+                        mappingMethod.getModifierList()
+                    );
+                    JavaCodeStyleManager.getInstance( project ).shortenClassReferences( inserted );
+
+                    if ( moveCaretToEmptySourceAttribute ) {
+                        moveCaretToEmptySourceAttribute( project, inserted );
+                    }
+
+                }, containingFile );
+
+            UndoUtil.markPsiFileForUndo( containingFile );
         }
     }
 
@@ -220,22 +292,25 @@ private static void runWriteCommandAction(Project project, Runnable runnable, Ps
 
     /**
      * Create a new annotation that can be added to a method. This method takes into consideration the different
-     * possibilities of having a array based repeatable annotation declaration.
+     * possibilities of having a array based repeatable annotation declaration. The text of the container with all
+     * the {@code mappingAnnotations} is built first, so that it is only parsed once.
      *
      * @param project the project
      * @param container the container for the annotation
-     * @param containerAnnotation the container annotation for {@code mappingAnnotation}
-     * @param mappingAnnotation the single mapping annotation that needs to be taken into consideration when creating
+     * @param containerAnnotation the container annotation for {@code mappingAnnotations}
+     * @param mappingAnnotations the mapping annotations that need to be added to the {@code containerAnnotation}
      *
      * @return the annotation that should be added to the mapping method
      */
     private static PsiAnnotation createNewAnnotation(@NotNull Project project,
         PsiElement container,
-        PsiAnnotation containerAnnotation,
-        @NotNull PsiAnnotation mappingAnnotation) {
-        if ( containerAnnotation == null ) {
-            return mappingAnnotation;
+        @NotNull PsiAnnotation containerAnnotation,
+        @NotNull Collection<PsiAnnotation> mappingAnnotations) {
+        StringJoiner newMappings = new StringJoiner( ",\n " );
+        for ( PsiAnnotation mappingAnnotation : mappingAnnotations ) {
+            newMappings.add( mappingAnnotation.getText() );
         }
+
         if ( !containerAnnotation.getText().contains( "{" ) ) {
             //The container annotation contains a single value not declared as array
             final PsiNameValuePair[] attributes = containerAnnotation.getParameterList().getAttributes();
@@ -243,7 +318,7 @@ private static PsiAnnotation createNewAnnotation(@NotNull Project project,
                 final String currentMappings = attributes[0].getText();
                 return JavaPsiFacade.getInstance( project ).getElementFactory().createAnnotationFromText(
                     "@" + MapstructUtil.MAPPINGS_ANNOTATION_FQN + "({\n" + currentMappings + ",\n " +
-                        mappingAnnotation.getText() + "\n})", container );
+                        newMappings + "\n})", container );
 
             }
         }
@@ -255,7 +330,7 @@ private static PsiAnnotation createNewAnnotation(@NotNull Project project,
                 final String textToPreserve =
                     braceIndex < 0 ? textBeforeCurlyBrace : textBeforeCurlyBrace.substring( 0, braceIndex ) + "),\n";
                 return JavaPsiFacade.getInstance( project ).getElementFactory().createAnnotationFromText(
-                    textToPreserve + " " + mappingAnnotation.getText() + "\n})", container );
+                    textToPreserve + " " + newMappings + "\n})", container );
             }
             else {
                 throw new IncorrectOperationException( containerAnnotation.getText() );
@@ -286,20 +361,94 @@ private static boolean canUseRepeatableMapping(PsiElement psiElement) {
 
     public static Stream<PsiAnnotation> findAllDefinedMappingAnnotations(@NotNull PsiModifierListOwner owner,
                                                                          MapStructVersion mapStructVersion) {
+        return findAllDefinedMappings( owner, mapStructVersion ).stream()
+            .map( DefinedMapping::annotation );
+    }
+
+    /**
+     * Find all {@link org.mapstruct.Mapping} annotations defined on the {@code owner}, with their attributes already
+     * extracted. The result is cached per owner and is recomputed only when the file of the owner, or the file of one
+     * of the (meta) annotations that contribute mappings, changes.
+     *
+     * @param owner the element for which the mappings should be found
+     * @param mapStructVersion the MapStruct project version
+     *
+     * @return an unmodifiable list with all the defined mappings
+     */
+    @NotNull
+    public static List<DefinedMapping> findAllDefinedMappings(@NotNull PsiModifierListOwner owner,
+                                                              MapStructVersion mapStructVersion) {
 
         // Meta annotations support was added when constructor support was added
         boolean includeMetaAnnotations = mapStructVersion.isConstructorSupported();
 
-        return findAllDefinedMappingAnnotations( owner, includeMetaAnnotations );
+        return findAllDefinedMappings( owner, includeMetaAnnotations );
+    }
+
+    @NotNull
+    private static List<DefinedMapping> findAllDefinedMappings(@NotNull PsiModifierListOwner owner,
+                                                               boolean includeMetaAnnotations) {
+        Key<CachedValue<List<DefinedMapping>>> key = includeMetaAnnotations ? DEFINED_MAPPINGS_WITH_META_KEY :
+            DEFINED_MAPPINGS_KEY;
+        return CachedValuesManager.getCachedValue( owner, key, () -> {
+            Set<PsiClass> visited = new LinkedHashSet<>();
+            List<DefinedMapping> definedMappings = findAllDefinedMappingAnnotations(
+                owner,
+                includeMetaAnnotations,
+                visited
+            )
+                .map( DefinedMapping::of )
+                .toList();
+
+            return CachedValueProvider.Result.create( definedMappings, definedMappingsDependencies( owner, visited ) );
+        } );
+    }
+
+    @NotNull
+    private static Object[] definedMappingsDependencies(@NotNull PsiModifierListOwner owner,
+                                                        @NotNull Collection<PsiClass> annotationClasses) {
+        List<Object> dependencies = new ArrayList<>( annotationClasses.size() + 3 );
+        dependencies.add( ProjectRootManager.getInstance( owner.getProject() ) );
+        // a change in the annotations of any annotation type might turn it into a composed mapping annotation
+        dependencies.add( ComposedMappingAnnotationIndex.getModificationTracker( owner.getProject() ) );
+        PsiFile ownerFile = owner.getContainingFile();
+        if ( ownerFile == null || hasUnresolvedAnnotation( owner ) ) {
+            return new Object[] { PsiModificationTracker.getInstance( owner.getProject() ) };
+        }
+        dependencies.add( ownerFile );
+
+        for ( PsiClass annotationClass : annotationClasses ) {
+            PsiFile annotationFile = annotationClass.getContainingFile();
+            if ( annotationFile == null || !annotationClass.getLanguage().isKindOf( JavaLanguage.INSTANCE ) ||
+                hasUnresolvedAnnotation( annotationClass ) ) {
+                return new Object[] { PsiModificationTracker.getInstance( owner.getProject() ) };
+            }
+            dependencies.add( annotationFile );
+        }
+
+        return dependencies.toArray();
+    }
+
+    private static boolean hasUnresolvedAnnotation(@NotNull PsiModifierListOwner owner) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if ( modifierList == null ) {
+            return false;
+        }
+        for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+            if ( annotation.resolveAnnotationType() == null ) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @NotNull
     private static Stream<PsiAnnotation> findAllDefinedMappingAnnotations(@NotNull PsiModifierListOwner owner,
-                                                                          boolean includeMetaAnnotations) {
-        //TODO cache
+                                                                          boolean includeMetaAnnotations,
+                                                                          Set<? super PsiClass> visited) {
         PsiAnnotation mappings = findAnnotation( owner, true, MapstructUtil.MAPPINGS_ANNOTATION_FQN );
         Stream<PsiAnnotation> mappingsAnnotations = extractMappingAnnotationsFromMappings( mappings );
-        Stream<PsiAnnotation> mappingAnnotations = findMappingAnnotations( owner, includeMetaAnnotations );
+        Stream<PsiAnnotation> mappingAnnotations = findMappingAnnotations( owner, includeMetaAnnotations, visited );
 
         return Stream.concat( mappingAnnotations, mappingsAnnotations );
     }
@@ -316,11 +465,12 @@ public static Stream<PsiAnnotation> extractMappingAnnotationsFromMappings(@Nulla
     }
 
     private static Stream<PsiAnnotation> findMappingAnnotations(@NotNull PsiModifierListOwner method,
-                                                                boolean includeMetaAnnotations) {
+                                                                boolean includeMetaAnnotations,
+                                                                Set<? super PsiClass> visited) {
 
         if ( includeMetaAnnotations ) {
             // do not use MetaAnnotationUtil#findMetaAnnotations since it only finds the first @Mapping annotation
-            return findDirectAndMetaAnnotations( method, new HashSet<>() ).stream();
+            return findDirectAndMetaAnnotations( method, visited ).stream();
         }
 
         return Stream.of( method.getModifierList() )
@@ -333,22 +483,73 @@ private static Stream<PsiAnnotation> findMappingAnnotations(@NotNull PsiModifier
     private static Set<PsiAnnotation> findDirectAndMetaAnnotations(@NotNull PsiModifierListOwner owner,
                                                                    Set<? super PsiClass> visited) {
 
-        Set<PsiAnnotation> result = new HashSet<>();
+        Set<PsiAnnotation> result = new LinkedHashSet<>();
 
         // to avoid infinite loops, do not include meta annotations at this point
-        findAllDefinedMappingAnnotations( owner, false ).forEach( result::add );
+        findAllDefinedMappingAnnotations( owner, false, visited ).forEach( result::add );
 
-        List<PsiClass> annotationClasses = getResolvedClassesInAnnotationsList( owner );
-
-        for ( PsiClass annotationClass : annotationClasses ) {
-            if ( visited.add( annotationClass ) ) {
-                result.addAll( findDirectAndMetaAnnotations( annotationClass, visited ) );
+        Set<String> composedAnnotations = ComposedMappingAnnotationIndex.findComposedMappingAnnotations(
+            owner.getProject()
+        );
+        for ( PsiClass annotationClass : getResolvedClassesInAnnotationsList( owner ) ) {
+            if ( isComposedMappingAnnotationCandidate( annotationClass, composedAnnotations ) ) {
+                MetaMappings metaMappings = findMetaMappings( annotationClass );
+                result.addAll( metaMappings.annotations() );
+                visited.addAll( metaMappings.annotationClasses() );
             }
         }
 
         return result;
     }
 
+    /**
+     * Find all the {@link org.mapstruct.Mapping} annotations that the {@code annotationClass} contributes, including
+     * the ones from its meta annotations. The result is cached on the annotation class, which means that a composed
+     * annotation is expanded only once, no matter on how many methods it is used.
+     */
+    @NotNull
+    private static MetaMappings findMetaMappings(@NotNull PsiClass annotationClass) {
+        return CachedValuesManager.getCachedValue( annotationClass, META_MAPPINGS_KEY, () -> {
+            Set<String> composedAnnotations = ComposedMappingAnnotationIndex.findComposedMappingAnnotations(
+                annotationClass.getProject()
+            );
+            Set<PsiClass> visited = new LinkedHashSet<>();
+            visited.add( annotationClass );
+            Set<PsiAnnotation> annotations = new LinkedHashSet<>();
+            collectMetaMappings( annotationClass, composedAnnotations, visited, annotations );
+
+            return CachedValueProvider.Result.create(
+                new MetaMappings( List.copyOf( annotations ), List.copyOf( visited ) ),
+                definedMappingsDependencies( annotationClass, visited )
+            );
+        } );
+    }
+
+    private static void collectMetaMappings(@NotNull PsiClass annotationClass,
+                                            @Nullable Set<String> composedAnnotations,
+                                            Set<PsiClass> visited,
+                                            Set<PsiAnnotation> annotations) {
+        findAllDefinedMappingAnnotations( annotationClass, false, visited ).forEach( annotations::add );
+
+        for ( PsiClass metaAnnotationClass : getResolvedClassesInAnnotationsList( annotationClass ) ) {
+            if ( isComposedMappingAnnotationCandidate( metaAnnotationClass, composedAnnotations ) &&
+                visited.add( metaAnnotationClass ) ) {
+                collectMetaMappings( metaAnnotationClass, composedAnnotations, visited, annotations );
+            }
+        }
+    }
+
+    private static boolean isComposedMappingAnnotationCandidate(@NotNull PsiClass annotationClass,
+                                                                @Nullable Set<String> composedAnnotations) {
+        // only the Java sources are part of the index (compiled and Kotlin annotations are not) and the index is not
+        // available in dumb mode, in those cases the annotation needs to be inspected
+        return composedAnnotations == null || IndexUtils.findIndexedJavaFile( annotationClass ) == null ||
+            composedAnnotations.contains( annotationClass.getQualifiedName() );
+    }
+
+    private record MetaMappings(List<PsiAnnotation> annotations, List<PsiClass> annotationClasses) {
+    }
+
     /**
      * copy of private method <code>MetaAnnotationUtil#getResolvedClassesInAnnotationsList(PsiModifierListOwner)</code>
      */
@@ -496,12 +697,13 @@ private static Stream<PsiClass> findReferencedMappersOfMapperConfig(PsiAnnotatio
 
         PsiModifierListOwner mapperConfigReference = findMapperConfigReference( mapperAnnotation );
 
-        if ( mapperConfigReference == null ) {
+        if ( !( mapperConfigReference instanceof PsiClass mapperConfigClass ) ||
+            !MapperIndex.isMapperConfig( mapperConfigClass ) ) {
             return Stream.empty();
         }
 
         PsiAnnotation mapperConfigAnnotation = findAnnotation(
-            mapperConfigReference,
+            mapperConfigClass,
             true,
             MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN
         );
@@ -8,23 +8,31 @@
 import java.beans.Introspector;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import javax.swing.Icon;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
-import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.EmptySubstitutor;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
@@ -41,6 +49,7 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.impl.PsiClassImplUtil;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiUtil;
@@ -50,9 +59,7 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.BeanMapping;
-import org.mapstruct.Builder;
 import org.mapstruct.Context;
-import org.mapstruct.EnumMapping;
 import org.mapstruct.InheritConfiguration;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
@@ -64,8 +71,8 @@
 import org.mapstruct.ValueMapping;
 import org.mapstruct.ValueMappings;
 import org.mapstruct.factory.Mappers;
+import org.mapstruct.intellij.index.ComposedMappingAnnotationIndex;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
 import static com.intellij.codeInsight.AnnotationUtil.isAnnotated;
 
 /**
@@ -73,7 +80,14 @@
  */
 public class MapstructUtil {
 
-    private static final MapstructUtil INSTANCE = new MapstructUtil();
+    static final MapstructUtil INSTANCE = new MapstructUtil();
+
+    private static final String MAPSTRUCT_PACKAGE = "org.mapstruct";
+
+    static final Key<CachedValue<MapStructCodeScreen>> MAPSTRUCT_CODE_SCREEN_KEY =
+        Key.create( "MapStructCodeScreen" );
+
+    private static final Pattern ANNOTATION_NAME_PATTERN = Pattern.compile( "@\\s*([\\w.$]+)" );
 
     /**
      * The FQN of the {@link Mapper} annotation.
@@ -102,10 +116,6 @@ public class MapstructUtil {
     static final String VALUE_MAPPINGS_ANNOTATION_FQN = ValueMappings.class.getName();
     private static final String MAPPING_TARGET_ANNOTATION_FQN = MappingTarget.class.getName();
     private static final String CONTEXT_ANNOTATION_FQN = Context.class.getName();
-    private static final String BUILDER_ANNOTATION_FQN = Builder.class.getName();
-    private static final String ENUM_MAPPING_ANNOTATION_FQN = EnumMapping.class.getName();
-    private static final String IMMUTABLE_FQN = "org.immutables.value.Value.Immutable";
-    private static final String FREE_BUILDER_FQN = "org.inferred.freebuilder.FreeBuilder";
 
     /**
      * Hide constructor.
@@ -114,19 +124,7 @@ public class MapstructUtil {
     }
 
     public static MapstructUtil getInstance(@Nullable PsiFile psiFile) {
-        if ( psiFile == null ) {
-            return MapstructUtil.INSTANCE;
-        }
-
-        if ( MapstructUtil.immutablesOnClassPath( psiFile ) ) {
-            return ImmutablesMapstructUtil.INSTANCE;
-        }
-
-        if ( MapstructUtil.freeBuilderOnClassPath( psiFile ) ) {
-            return FreeBuildersMapstructUtil.INSTANCE;
-        }
-
-        return MapstructUtil.INSTANCE;
+        return MapStructEnvironment.getInstance( psiFile ).mapstructUtil();
     }
 
     public static LookupElement[] asLookup(Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors,
@@ -184,20 +182,69 @@ public static <T extends PsiElement> LookupElement asLookup(String propertyName,
         );
     }
 
+    /**
+     * Add the lookups for the {@code accessors} whose name matches the prefix of the {@code result}. Unlike
+     * {@link #asLookup(Map, Function)} the lookups are only created for the matching accessors, and they are passed
+     * to the {@code result} one by one, so that the first ones are shown while the rest is still being added.
+     *
+     * @param accessors the accessors for which lookups need to be added
+     * @param typeMapper the function that provides the type of an accessor
+     * @param result the result to which the lookups are added
+     */
+    public static void addLookups(Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors,
+                                  Function<PsiElement, PsiType> typeMapper, @NotNull CompletionResultSet result) {
+        addLookups( accessors, typeMapper, result.getPrefixMatcher(), result::addElement );
+    }
+
+    /**
+     * Add the lookups for the {@code accessors} whose name matches the {@code prefixMatcher} to the
+     * {@code consumer}.
+     *
+     * @param accessors the accessors for which lookups need to be added
+     * @param typeMapper the function that provides the type of an accessor
+     * @param prefixMatcher the matcher that the name of an accessor needs to match
+     * @param consumer the consumer of the lookups
+     *
+     * @see #addLookups(Map, Function, CompletionResultSet)
+     */
+    public static void addLookups(Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors,
+                                  Function<PsiElement, PsiType> typeMapper, @NotNull PrefixMatcher prefixMatcher,
+                                  @NotNull Consumer<LookupElement> consumer) {
+        for ( Map.Entry<String, Pair<? extends PsiElement, PsiSubstitutor>> entry : accessors.entrySet() ) {
+            ProgressManager.checkCanceled();
+            String propertyName = entry.getKey();
+            if ( prefixMatcher.prefixMatches( propertyName ) ) {
+                consumer.accept( asLookup( propertyName, entry.getValue(), typeMapper, PlatformIcons.VARIABLE_ICON ) );
+            }
+        }
+    }
+
+    /**
+     * Create the lookup for a property. The lookup is rendered with its name and icon first, the type of the property
+     * is only computed by the expensive renderer, when the lookup is shown.
+     */
     public static LookupElement asLookup(String propertyName, @NotNull Pair<? extends PsiElement, PsiSubstitutor> pair,
                                          Function<PsiElement, PsiType> typeMapper, Icon icon) {
-        PsiElement member = pair.getFirst();
-        PsiSubstitutor substitutor = pair.getSecond();
-
-        LookupElementBuilder builder = LookupElementBuilder.create( member, propertyName )
+        return LookupElementBuilder.create( pair.getFirst(), propertyName )
             .withIcon( icon )
-            .withPresentableText( propertyName );
-        final PsiType type = typeMapper.apply( member );
-        if ( type != null ) {
-            builder = builder.withTypeText( substitutor.substitute( type ).getPresentableText() );
-        }
+            .withExpensiveRenderer( new PropertyTypeRenderer( pair.getSecond(), typeMapper, icon ) );
+    }
 
-        return builder;
+    /**
+     * Create the lookup for a nested property path, e.g. {@code address.street}. The lookup can be found by the whole
+     * path and by the name of the last property.
+     */
+    public static LookupElement asNestedLookup(String path, String propertyName,
+                                               @NotNull Pair<? extends PsiElement, PsiSubstitutor> pair,
+                                               Function<PsiElement, PsiType> typeMapper) {
+        return LookupElementBuilder.create( pair.getFirst(), path )
+            .withLookupString( propertyName )
+            .withIcon( PlatformIcons.VARIABLE_ICON )
+            .withExpensiveRenderer( new PropertyTypeRenderer(
+                pair.getSecond(),
+                typeMapper,
+                PlatformIcons.VARIABLE_ICON
+            ) );
     }
 
     public static boolean isPublic(@NotNull PsiMethod method) {
@@ -533,94 +580,61 @@ public static String capitalize(String string) {
      * @return {@code true} if MapStruct is in the module of the given {@code psiFile}, {@code false} otherwise
      */
     public static boolean isMapStructPresent(@NotNull PsiFile psiFile) {
-        Module module = ModuleUtilCore.findModuleForFile( psiFile.getVirtualFile(), psiFile.getProject() );
-        return module != null && isMapStructPresent( module );
+        return MapStructEnvironment.getInstance( psiFile ).mapStructPresent();
     }
 
     /**
-     * Checks if MapStruct is withing the provided module.
+     * Cheap, text based, check if the {@code psiFile} can contain MapStruct code. A file can only contain MapStruct
+     * code if it mentions the {@code org.mapstruct} package (an import, a fully qualified annotation or a
+     * {@code Mappers} call), or if it is annotated with one of the composed mapping annotations of the project. The
+     * text of the file is only scanned once per modification of the file, the names of the annotations that it uses
+     * are then compared with the current composed mapping annotations.
      *
-     * @param module that needs to be checked
+     * @param psiFile the file for which the check needs to be done
      *
-     * @return {@code true} if MapStruct is present within the {@code module}, {@code false} otherwise
+     * @return {@code false} if the file definitely does not contain any MapStruct code, {@code true} otherwise
      */
-    private static boolean isMapStructPresent(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean foundMarkerClass = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPER_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                foundMarkerClass,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
-    }
+    public static boolean mayContainMapStructCode(@NotNull PsiFile psiFile) {
+        MapStructCodeScreen screen = CachedValuesManager.getCachedValue(
+            psiFile,
+            MAPSTRUCT_CODE_SCREEN_KEY,
+            () -> CachedValueProvider.Result.create(
+                MapStructCodeScreen.of( psiFile.getViewProvider().getContents() ),
+                psiFile
+            )
+        );
 
-    /**
-     * Resolve the MapStruct project version with the module of the provided psi file
-     * @param psiFile that needs to be checked
-     * @return the MapStruct project version
-     */
-    public static MapStructVersion resolveMapStructProjectVersion(@NotNull PsiFile psiFile) {
-        Module module = ModuleUtilCore.findModuleForFile( psiFile.getVirtualFile(), psiFile.getProject() );
-        if ( module == null ) {
-            return MapStructVersion.V1_2_O;
+        if ( screen.mentionsMapStruct() ) {
+            return true;
         }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            MapStructVersion mapStructVersion;
-            if ( JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( ENUM_MAPPING_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null ) {
-                mapStructVersion = MapStructVersion.V1_4_O;
-            }
-            else if ( JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( BUILDER_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null ) {
-                mapStructVersion = MapStructVersion.V1_3_O;
-            }
-            else {
-                mapStructVersion = MapStructVersion.V1_2_O;
-            }
-            return CachedValueProvider.Result.createSingleDependency(
-                mapStructVersion,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
-    }
 
-    private static boolean immutablesOnClassPath(@NotNull PsiFile psiFile) {
-        VirtualFile virtualFile = psiFile.getVirtualFile();
-        if ( virtualFile == null ) {
-            return false;
-        }
-        Module module = ModuleUtilCore.findModuleForFile( virtualFile, psiFile.getProject() );
-        if ( module == null ) {
+        if ( screen.annotationNames().isEmpty() ) {
             return false;
         }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean immutablesOnClassPath = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( IMMUTABLE_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                immutablesOnClassPath,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
-    }
 
-    private static boolean freeBuilderOnClassPath(@NotNull PsiFile psiFile) {
-        VirtualFile virtualFile = psiFile.getVirtualFile();
-        if ( virtualFile == null ) {
-            return false;
+        Set<String> composedMappingAnnotations =
+            ComposedMappingAnnotationIndex.findComposedMappingAnnotations( psiFile.getProject() );
+        if ( composedMappingAnnotations == null ) {
+            // The indices are not ready, we can't know which annotations are composed mapping annotations
+            return true;
         }
-        Module module = ModuleUtilCore.findModuleForFile( virtualFile, psiFile.getProject() );
-        if ( module == null ) {
-            return false;
+
+        for ( String composedMappingAnnotation : composedMappingAnnotations ) {
+            if ( screen.annotationNames().contains( StringUtil.getShortName( composedMappingAnnotation ) ) ) {
+                return true;
+            }
         }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean freeBuilderOnClassPath = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( FREE_BUILDER_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                freeBuilderOnClassPath,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+
+        return false;
+    }
+
+    /**
+     * Resolve the MapStruct project version with the module of the provided psi file
+     * @param psiFile that needs to be checked
+     * @return the MapStruct project version
+     */
+    public static MapStructVersion resolveMapStructProjectVersion(@NotNull PsiFile psiFile) {
+        return MapStructEnvironment.getInstance( psiFile ).version();
     }
 
     /**
@@ -632,19 +646,7 @@ private static boolean freeBuilderOnClassPath(@NotNull PsiFile psiFile) {
      * @return {@code true} if MapStruct jdk8 is present within the {@code module}, {@code false} otherwise
      */
     static boolean isMapStructJdk8Present(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            PsiClass mappingAnnotation = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPING_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) );
-            boolean mapstructJdk8Present = findAnnotation(
-                mappingAnnotation,
-                true,
-                CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
-            ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                mapstructJdk8Present,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructEnvironment.getInstance( module ).mapStructJdk8Present();
     }
 
     /**
@@ -688,4 +690,57 @@ public static boolean isMapWithStringKeyType(@Nullable PsiType type) {
 
         return parameters[0].equalsToText( CommonClassNames.JAVA_LANG_STRING );
     }
+
+    /**
+     * What the text of a file tells about the MapStruct code in it.
+     *
+     * @param mentionsMapStruct whether the {@code org.mapstruct} package is mentioned in the file
+     * @param annotationNames the simple names of the annotations used in the file
+     */
+    record MapStructCodeScreen(boolean mentionsMapStruct, @NotNull Set<String> annotationNames) {
+
+        @NotNull
+        private static MapStructCodeScreen of(@NotNull CharSequence text) {
+            if ( StringUtil.contains( text, MAPSTRUCT_PACKAGE ) ) {
+                return new MapStructCodeScreen( true, Collections.emptySet() );
+            }
+
+            Set<String> annotationNames = new HashSet<>();
+            Matcher matcher = ANNOTATION_NAME_PATTERN.matcher( text );
+            while ( matcher.find() ) {
+                annotationNames.add( StringUtil.getShortName( matcher.group( 1 ) ) );
+            }
+
+            return new MapStructCodeScreen( false, annotationNames );
+        }
+    }
+
+    /**
+     * The expensive renderer of a property lookup, it adds the type of the property to the presentation.
+     */
+    private static final class PropertyTypeRenderer extends LookupElementRenderer<LookupElement> {
+
+        private final PsiSubstitutor substitutor;
+        private final Function<PsiElement, PsiType> typeMapper;
+        private final Icon icon;
+
+        private PropertyTypeRenderer(PsiSubstitutor substitutor, Function<PsiElement, PsiType> typeMapper,
+                                     Icon icon) {
+            this.substitutor = substitutor;
+            this.typeMapper = typeMapper;
+            this.icon = icon;
+        }
+
+        @Override
+        public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+            presentation.setIcon( icon );
+            presentation.setItemText( element.getLookupString() );
+
+            PsiElement member = element.getPsiElement();
+            PsiType type = member == null ? null : typeMapper.apply( member );
+            if ( type != null ) {
+                presentation.setTypeText( substitutor.substitute( type ).getPresentableText() );
+            }
+        }
+    }
 }
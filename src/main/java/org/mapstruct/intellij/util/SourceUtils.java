@@ -6,20 +6,26 @@
 package org.mapstruct.intellij.util;
 
 import java.beans.Introspector;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
 
-import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiRecordComponent;
@@ -27,11 +33,15 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypes;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappingAnnotations;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappings;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
 import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
 import static org.mapstruct.intellij.util.MapstructUtil.publicFields;
@@ -82,8 +92,8 @@ public static Set<String> findAllSourceProperties(@NotNull PsiMethod method) {
      */
     public static Stream<String> findAllDefinedMappingSources(@NotNull PsiMethod method,
                                                               @NotNull MapStructVersion mapStructVersion) {
-        return findAllDefinedMappingAnnotations( method, mapStructVersion )
-            .map( psiAnnotation -> AnnotationUtil.getDeclaredStringAttributeValue( psiAnnotation, "source" ) )
+        return findAllDefinedMappings( method, mapStructVersion ).stream()
+            .map( DefinedMapping::source )
             .filter( Objects::nonNull )
             .filter( s -> !s.isEmpty() );
     }
@@ -127,11 +137,13 @@ else if ( psiElement instanceof PsiParameter psiParameter ) {
 
     /**
      * Extract all public read accessors (public getters and fields)
-     * with their psi substitutors from the given {@code psiType}
+     * with their psi substitutors from the given {@code psiType}.
+     * <p>
+     * The accessors are cached per class and are only recomputed when the class or one of its super classes changes.
      *
      * @param psiType to use to extract the accessors
      *
-     * @return a stream that holds all public read accessors for the given {@code psiType}
+     * @return an unmodifiable map that holds all public read accessors for the given {@code psiType}
      */
     public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicReadAccessors(
         @Nullable PsiType psiType) {
@@ -140,6 +152,14 @@ public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicRead
             return Collections.emptyMap();
         }
 
+        return CachedValuesManager.getCachedValue( psiClass, () -> CachedValueProvider.Result.create(
+            computePublicReadAccessors( psiClass ),
+            hierarchyDependencies( psiClass )
+        ) );
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> computePublicReadAccessors(
+        @NotNull PsiClass psiClass) {
         Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicReadAccessors = new HashMap<>();
 
         publicReadAccessors.putAll( publicGetters( psiClass ) );
@@ -153,7 +173,45 @@ public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicRead
             }
         }
 
-        return publicReadAccessors;
+        return Collections.unmodifiableMap( publicReadAccessors );
+    }
+
+    /**
+     * The dependencies of a value computed from the members of {@code psiClass} and its super classes. These are the
+     * files of all classes in the hierarchy. When the hierarchy cannot be tracked on file level (non Java classes or
+     * unresolved super types) any PSI modification is used instead.
+     *
+     * @param psiClass the class for which the dependencies are needed
+     *
+     * @return the dependencies for a {@link CachedValueProvider.Result}
+     */
+    @NotNull
+    public static Object[] hierarchyDependencies(@NotNull PsiClass psiClass) {
+        List<Object> dependencies = new ArrayList<>();
+        dependencies.add( ProjectRootManager.getInstance( psiClass.getProject() ) );
+
+        Set<PsiClass> hierarchy = new LinkedHashSet<>();
+        hierarchy.add( psiClass );
+        hierarchy.addAll( InheritanceUtil.getSuperClasses( psiClass ) );
+        for ( PsiClass hierarchyClass : hierarchy ) {
+            PsiFile containingFile = hierarchyClass.getContainingFile();
+            if ( containingFile == null || !hierarchyClass.getLanguage().isKindOf( JavaLanguage.INSTANCE ) ||
+                hasUnresolvedSuperType( hierarchyClass ) ) {
+                return new Object[] { PsiModificationTracker.getInstance( psiClass.getProject() ) };
+            }
+            dependencies.add( containingFile );
+        }
+
+        return dependencies.toArray();
+    }
+
+    private static boolean hasUnresolvedSuperType(@NotNull PsiClass psiClass) {
+        for ( PsiClassType superType : psiClass.getSuperTypes() ) {
+            if ( superType.resolve() == null ) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
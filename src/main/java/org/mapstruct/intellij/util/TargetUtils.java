@@ -12,15 +12,18 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
-import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.lang.jvm.JvmModifier;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
@@ -37,13 +40,17 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypes;
 import com.intellij.psi.impl.source.resolve.reference.ReferenceProvidersRegistry;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
 import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappingAnnotations;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappings;
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findMapperConfigReference;
 import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
@@ -59,6 +66,9 @@
  */
 public class TargetUtils {
 
+    private static final Key<CachedValue<ConcurrentMap<WriteAccessorsKey, Map<String, Pair<? extends PsiElement,
+        PsiSubstitutor>>>>> WRITE_ACCESSORS_CACHE_KEY = Key.create( "MapStructWriteAccessors" );
+
     private TargetUtils() {
     }
 
@@ -92,16 +102,78 @@ public static PsiType getRelevantType(@NotNull PsiMethod mappingMethod) {
     /**
      * Extract all public write accessors with their psi substitutors from the given {@code psiType}.
      * These accessors are constructor parameters and, if it is not a record, also public fields and setters.
+     * <p>
+     * The accessors are cached per target class and are recomputed only after a PSI modification, i.e. all mapping
+     * methods and inspections that use the same target type share the same accessor table.
      *
      * @param psiType to use to extract the accessors
      * @param mapStructVersion the MapStruct project version
      * @param mappingMethod the mapping method
      *
-     * @return a stream that holds all public write accessors for the given {@code psiType}
+     * @return an unmodifiable map that holds all public write accessors for the given {@code psiType}
      */
     public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors(@NotNull PsiType psiType,
         MapStructVersion mapStructVersion, MapstructUtil mapstructUtil, PsiMethod mappingMethod) {
-        boolean builderPresent = mapStructVersion.isBuilderSupported() && isBuilderEnabled( mappingMethod );
+        return publicWriteAccessors(
+            psiType,
+            mapStructVersion,
+            mapstructUtil,
+            isBuilderEnabled( mapStructVersion, mappingMethod )
+        );
+    }
+
+    /**
+     * Extract all public write accessors with their psi substitutors from the given {@code psiType}.
+     *
+     * @param psiType to use to extract the accessors
+     * @param mapStructVersion the MapStruct project version
+     * @param builderPresent whether the builder of the type is used
+     *
+     * @return an unmodifiable map that holds all public write accessors for the given {@code psiType}
+     *
+     * @see #publicWriteAccessors(PsiType, MapStructVersion, MapstructUtil, PsiMethod)
+     */
+    public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors(@NotNull PsiType psiType,
+        MapStructVersion mapStructVersion, MapstructUtil mapstructUtil, boolean builderPresent) {
+        PsiClass psiClass = PsiUtil.resolveClassInType( psiType );
+        if ( psiClass == null ) {
+            return Collections.emptyMap();
+        }
+
+        ConcurrentMap<WriteAccessorsKey, Map<String, Pair<? extends PsiElement, PsiSubstitutor>>> cache =
+            CachedValuesManager.getCachedValue( psiClass, WRITE_ACCESSORS_CACHE_KEY, () ->
+                CachedValueProvider.Result.create(
+                    new ConcurrentHashMap<>(),
+                    PsiModificationTracker.getInstance( psiClass.getProject() )
+                ) );
+
+        WriteAccessorsKey key = new WriteAccessorsKey(
+            psiType.getCanonicalText(),
+            builderPresent,
+            mapStructVersion,
+            mapstructUtil.getClass()
+        );
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors = cache.get( key );
+        if ( publicWriteAccessors == null ) {
+            publicWriteAccessors = computePublicWriteAccessors(
+                psiType,
+                mapStructVersion,
+                mapstructUtil,
+                builderPresent
+            );
+            Map<String, Pair<? extends PsiElement, PsiSubstitutor>> existing =
+                cache.putIfAbsent( key, publicWriteAccessors );
+            if ( existing != null ) {
+                publicWriteAccessors = existing;
+            }
+        }
+
+        return publicWriteAccessors;
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> computePublicWriteAccessors(
+        @NotNull PsiType psiType, MapStructVersion mapStructVersion, MapstructUtil mapstructUtil,
+        boolean builderPresent) {
         Pair<PsiClass, TargetType> classAndType = resolveBuilderOrSelfClass( psiType, builderPresent );
         if ( classAndType == null ) {
             return Collections.emptyMap();
@@ -122,7 +194,7 @@ public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWrit
             publicWriteAccessors.putAll( constructorParameters( psiClass ) );
         }
 
-        return publicWriteAccessors;
+        return Collections.unmodifiableMap( publicWriteAccessors );
     }
 
     /**
@@ -424,8 +496,8 @@ private static boolean hasBuildMethod(@Nullable PsiType builderType, @NotNull Ps
     @NotNull
     public static Stream<String> findAllDefinedMappingTargets(@NotNull PsiModifierListOwner owner,
         MapStructVersion mapStructVersion) {
-        return findAllDefinedMappingAnnotations( owner, mapStructVersion )
-            .map( psiAnnotation -> AnnotationUtil.getDeclaredStringAttributeValue( psiAnnotation, "target" ) )
+        return findAllDefinedMappings( owner, mapStructVersion ).stream()
+            .map( DefinedMapping::target )
             .filter( Objects::nonNull )
             .filter( s -> !s.isEmpty() );
     }
@@ -440,12 +512,9 @@ public static Stream<String> findAllDefinedMappingTargets(@NotNull PsiModifierLi
      */
     public static Stream<String> findAllSourcePropertiesForCurrentTarget(@NotNull PsiMethod method,
         MapStructVersion mapStructVersion) {
-        return findAllDefinedMappingAnnotations( method, mapStructVersion )
-            .filter( psiAnnotation -> ".".equals( AnnotationUtil.getDeclaredStringAttributeValue(
-                psiAnnotation,
-                "target"
-            ) ) )
-            .map( psiAnnotation -> psiAnnotation.findDeclaredAttributeValue(  "source" ) )
+        return findAllDefinedMappings( method, mapStructVersion ).stream()
+            .filter( definedMapping -> ".".equals( definedMapping.target() ) )
+            .map( definedMapping -> definedMapping.annotation().findDeclaredAttributeValue( "source" ) )
             .filter( Objects::nonNull )
             .map( ReferenceProvidersRegistry::getReferencesFromProviders )
             .filter( references -> references.length > 0 )
@@ -458,13 +527,17 @@ public static Stream<String> findAllSourcePropertiesForCurrentTarget(@NotNull Ps
      *
      * @param targetType that needs to be used
      * @param mapStructVersion the MapStruct project version
-     * @param mappingMethod that needs to be checked
+     * @param builderEnabled whether the builder of the target can be used by the mapping method
      *
      * @return all target properties for the given {@code targetClass}
+     *
+     * @see MappingMethodModel#isBuilderEnabled()
      */
     public static Set<String> findAllTargetProperties(@NotNull PsiType targetType, MapStructVersion mapStructVersion,
-                                                      MapstructUtil mapstructUtil, PsiMethod mappingMethod) {
-        return publicWriteAccessors( targetType, mapStructVersion, mapstructUtil, mappingMethod ).keySet();
+                                                      MapstructUtil mapstructUtil, boolean builderEnabled) {
+        return new LinkedHashSet<>(
+            publicWriteAccessors( targetType, mapStructVersion, mapstructUtil, builderEnabled ).keySet()
+        );
     }
 
     /**
@@ -491,4 +564,11 @@ public static PsiType getTargetType( @NotNull PsiMethod method) {
         return getRelevantType( method );
     }
 
+    /**
+     * Key of the cached write accessors of a single target class.
+     */
+    private record WriteAccessorsKey(String typeText, boolean builderPresent, MapStructVersion mapStructVersion,
+                                     Class<? extends MapstructUtil> mapstructUtilType) {
+    }
+
 }
@@ -5,11 +5,24 @@
  */
 package org.mapstruct.intellij.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import org.jetbrains.annotations.NotNull;
 
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedValueMappingAnnotations;
@@ -19,6 +32,11 @@
  */
 public class ValueMappingUtils {
 
+    private static final Key<CachedValue<Set<String>>> DEFINED_VALUE_MAPPING_SOURCES_KEY =
+        Key.create( "MapStructDefinedValueMappingSources" );
+    private static final Key<CachedValue<List<PsiEnumConstant>>> ENUM_CONSTANTS_KEY =
+        Key.create( "MapStructEnumConstants" );
+
     private ValueMappingUtils() {
     }
 
@@ -35,4 +53,50 @@ public static Stream<String> findAllDefinedValueMappingSources(@NotNull PsiMetho
             .filter( Objects::nonNull )
             .filter( s -> !s.isEmpty() );
     }
+
+    /**
+     * Find all defined {@link org.mapstruct.ValueMapping#source()} for the given method. The sources are cached per
+     * method until the next PSI modification.
+     *
+     * @param method that needs to be checked
+     *
+     * @return an unmodifiable set with the defined sources
+     */
+    @NotNull
+    public static Set<String> findDefinedValueMappingSources(@NotNull PsiMethod method) {
+        return CachedValuesManager.getCachedValue( method, DEFINED_VALUE_MAPPING_SOURCES_KEY, () ->
+            CachedValueProvider.Result.create(
+                findAllDefinedValueMappingSources( method ).collect( Collectors.toUnmodifiableSet() ),
+                PsiModificationTracker.getInstance( method.getProject() )
+            ) );
+    }
+
+    /**
+     * Find the constants of the given {@code enumClass}. The constants are cached per class and are only recomputed
+     * when the class changes.
+     *
+     * @param enumClass the enum class
+     *
+     * @return an unmodifiable list with the constants of the enum, in declaration order
+     */
+    @NotNull
+    public static List<PsiEnumConstant> findEnumConstants(@NotNull PsiClass enumClass) {
+        return CachedValuesManager.getCachedValue( enumClass, ENUM_CONSTANTS_KEY, () ->
+            CachedValueProvider.Result.create(
+                computeEnumConstants( enumClass ),
+                SourceUtils.hierarchyDependencies( enumClass )
+            ) );
+    }
+
+    @NotNull
+    private static List<PsiEnumConstant> computeEnumConstants(@NotNull PsiClass enumClass) {
+        List<PsiEnumConstant> enumConstants = new ArrayList<>();
+        for ( PsiField field : enumClass.getFields() ) {
+            if ( field instanceof PsiEnumConstant enumConstant ) {
+                enumConstants.add( enumConstant );
+            }
+        }
+
+        return Collections.unmodifiableList( enumConstants );
+    }
 }
@@ -6,9 +6,9 @@
 package org.mapstruct.intellij;
 
 import com.intellij.codeInsight.lookup.LookupElement;
-import com.intellij.codeInsight.lookup.LookupElementPresentation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiRecordComponent;
+import org.mapstruct.intellij.testutil.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mapstruct.intellij.testutil.TestUtils.createParameter;
@@ -45,7 +45,7 @@ private void assertCarDtoRecordAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -73,7 +73,7 @@ private void assertCarRecordAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -118,7 +118,7 @@ public void testNestedSecondLevelAutoCompleteRecordTargetProperty() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .usingElementComparatorIgnoringFields( "myIcon", "myTail" )
             .containsExactlyInAnyOrder(
@@ -155,7 +155,7 @@ public void testNestedSecondLevelAutoCompleteRecordSourceProperty() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "name", "String" )
@@ -5,15 +5,23 @@
  */
 package org.mapstruct.intellij;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.intellij.codeInsight.completion.CamelHumpMatcher;
+import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.impl.LookupImpl;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.util.PsiTreeUtil;
+import org.mapstruct.intellij.testutil.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mapstruct.intellij.testutil.TestUtils.createParameter;
@@ -50,7 +58,7 @@ private void assertCarDtoAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -77,7 +85,7 @@ private void assertCarDtoAutoCompleteKt() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -104,7 +112,7 @@ private void assertCarDtoWithBuilderAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -131,7 +139,7 @@ private void assertCarDtoPublicAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -159,7 +167,7 @@ private void assertCarAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
@@ -182,7 +190,7 @@ private void assertFluentPersonDtoAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "name", "String" ),
@@ -204,7 +212,7 @@ private void assertCarDtoWithConstructorAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields( "myIcon", "myTail" )
             .containsExactlyInAnyOrder(
@@ -232,7 +240,7 @@ private void assertCarDtoWithConstructorAndSettersAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields( "myIcon", "myTail" )
             .containsExactlyInAnyOrder(
@@ -254,7 +262,7 @@ private void assertNestedSecondLevelAutoCompleteProperty() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "name", "String" )
@@ -271,6 +279,18 @@ public void testCarMapperReturnTargetCarDto() {
         assertCarDtoAutoComplete();
     }
 
+    public void testPropertyTypeIsOnlyRenderedByTheExpensiveRenderer() {
+        configureByFile( "CarMapperReturnTargetCarDto.java" );
+
+        assertThat( myItems )
+            .isNotEmpty()
+            .allSatisfy( item -> {
+                assertThat( LookupElementPresentation.renderElement( item ).getTypeText() ).isNull();
+                assertThat( item.getExpensiveRenderer() ).isNotNull();
+                assertThat( TestUtils.renderElement( item ).getTypeText() ).isNotNull();
+            } );
+    }
+
     public void testCarMapperReturnTargetFluentCarDto() {
         configureByTestName();
         assertCarDtoAutoComplete();
@@ -306,7 +326,7 @@ public void testCarMapperReturnTargetCarDtoWithConstructorAndEmptyConstructor()
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "price", "Long" ),
@@ -325,7 +345,7 @@ public void testCarMapperReturnTargetCarDtoWithMultipleConstructorsAndAnnotatedW
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields( "myIcon", "myTail" )
             .containsExactlyInAnyOrder(
@@ -399,7 +419,7 @@ public void testNestedSecondLevelAutoCompleteConstructorTargetProperty() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields( "myIcon", "myTail" )
             .containsExactlyInAnyOrder(
@@ -449,7 +469,7 @@ public void testMultipleSourceParametersUpdateMapping() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             //For some reason the icon is empty in the returned items. However, in actual completion it is OK
             .usingRecursiveFieldByFieldElementComparatorIgnoringFields( "myIcon" )
             .containsExactlyInAnyOrder(
@@ -480,7 +500,7 @@ public void testFluentGenericTargetMapper() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "id", "String" ),
@@ -710,7 +730,7 @@ public void testTargetWithCollectionGetterMapper() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "myStringList", "List<String>" ),
@@ -740,7 +760,7 @@ public void testTargetWithMapGetterMapper() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "myMap", "Map<String, String>" )
@@ -1070,4 +1090,64 @@ public void testMapperWithBuilderAndMapperConfigDisabledBuilderAndMapperEnable()
             );
     }
 
+    public void testStreamedVariantsSingleSourceParameter() {
+        configureByFile( "StreamedVariantsSingleSourceParameter.java" );
+        assertStreamedVariantsMatchReferenceVariants( "m" );
+    }
+
+    public void testStreamedVariantsNestedSourceProperty() {
+        configureByFile( "NestedSecondLevelAutoCompleteSourceProperty.java" );
+        assertStreamedVariantsMatchReferenceVariants( "" );
+    }
+
+    public void testStreamedVariantsMultipleSourceParameters() {
+        configureByFile( "MultipleSourceParametersUpdateMapping.java" );
+        assertStreamedVariantsMatchReferenceVariants( "" );
+    }
+
+    /**
+     * The completion adds the variants of the reference one by one. They need to be the same, rendered the same
+     * and inserted the same, as the variants of {@link PsiReference#getVariants()} that match the prefix.
+     */
+    private void assertStreamedVariantsMatchReferenceVariants(String prefix) {
+        assertThat( myItems ).hasSizeGreaterThan( 1 );
+
+        PrefixMatcher prefixMatcher = new CamelHumpMatcher( prefix );
+        List<LookupElement> referenceVariants = Stream.of( referenceAtCaret().getVariants() )
+            .map( LookupElement.class::cast )
+            .filter( prefixMatcher::prefixMatches )
+            .toList();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrderElementsOf(
+                referenceVariants.stream().map( LookupElement::getLookupString ).toList()
+            );
+
+        assertThat( myItems )
+            .extracting( TestUtils::renderElement )
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrderElementsOf(
+                referenceVariants.stream().map( TestUtils::renderElement ).toList()
+            );
+
+        LookupImpl lookup = (LookupImpl) myFixture.getLookup();
+        assertThat( myItems )
+            .allSatisfy( item -> assertThat( lookup.itemPattern( item ) ).isEqualTo( prefix ) );
+    }
+
+    private PsiReference referenceAtCaret() {
+        int caretOffset = myFixture.getCaretOffset();
+        PsiLiteralExpression literal = PsiTreeUtil.getParentOfType(
+            myFixture.getFile().findElementAt( caretOffset ),
+            PsiLiteralExpression.class
+        );
+        assertThat( literal ).isNotNull();
+
+        int offsetInLiteral = caretOffset - literal.getTextRange().getStartOffset();
+        return Stream.of( literal.getReferences() )
+            .filter( reference -> reference.getRangeInElement().containsOffset( offsetInLiteral ) )
+            .reduce( (first, second) -> second )
+            .orElseThrow();
+    }
 }
@@ -7,11 +7,17 @@
 
 import java.util.Collection;
 
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceBase;
+import com.intellij.psi.impl.PsiManagerEx;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.usageView.UsageInfo;
+import org.mapstruct.intellij.index.MappingPropertyIndex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -93,6 +99,48 @@ public void testFindUsagesBuilderTargetReferenceMethod() {
             } );
     }
 
+    public void testFindUsagesOnlySearchesFilesMappingTheProperty() {
+        myFixture.configureByFiles( "MappingPropertyUsages.java", "MappingPropertyUsagesMapper.java" );
+        VirtualFile unrelatedFile = myFixture.copyFileToProject( "MappingPropertyUsagesUnrelated.java" );
+        PsiElement getter = myFixture.getElementAtCaret();
+
+        GlobalSearchScope projectScope = GlobalSearchScope.projectScope( getProject() );
+        assertThat( MappingPropertyIndex.findFilesWithProperty( "name", projectScope ) )
+            .extracting( VirtualFile::getName )
+            .containsExactly( "MappingPropertyUsagesMapper.java" );
+
+        // The unrelated file contains the property name, but it must not be loaded for the search
+        PsiManagerEx.getInstanceEx( getProject() )
+            .setAssertOnFileLoadingFilter( unrelatedFile::equals, getTestRootDisposable() );
+
+        Collection<UsageInfo> usages = myFixture.findUsages( getter );
+        assertThat( usages ).hasSize( 1 );
+        UsageInfo usageInfo = usages.iterator().next();
+        assertThat( usageInfo.getVirtualFile() ).isNotNull();
+        assertThat( usageInfo.getVirtualFile().getName() ).isEqualTo( "MappingPropertyUsagesMapper.java" );
+        assertThat( usageInfo.getElement() )
+            .isInstanceOfSatisfying( PsiLiteralExpression.class, expression ->
+                assertThat( expression.getValue() ).isEqualTo( "name" ) );
+    }
+
+    public void testFindUsagesNamedMethodInUsingMappers() {
+        myFixture.configureByFiles( "NamedMethodUsages.java", "NamedMethodUsagesMappers.java" );
+        Collection<UsageInfo> usages = myFixture.findUsages( myFixture.getElementAtCaret() );
+        assertThat( usages )
+            .extracting( usage -> PsiTreeUtil.getParentOfType( usage.getElement(), PsiClass.class ).getName() )
+            .containsExactlyInAnyOrder( "UsingMapper", "ConfiguredMapper" );
+        assertThat( usages )
+            .allSatisfy( usage -> assertThat( usage.getElement() )
+                .isInstanceOfSatisfying( PsiLiteralExpression.class, expression ->
+                    assertThat( expression.getValue() ).isEqualTo( "trimString" ) ) );
+    }
+
+    public void testRenameNamedMethodKeepsQualifiedByName() {
+        myFixture.configureByFiles( "NamedMethodUsages.java", "NamedMethodUsagesMappers.java" );
+        myFixture.renameElementAtCaret( "strip" );
+        myFixture.checkResultByFile( "NamedMethodUsagesMappers.java", "NamedMethodUsagesMappers.java", false );
+    }
+
     public void testIssue10Mapper() {
         myFixture.configureByFiles( getTestName( false ) + ".java" );
         Collection<UsageInfo> usages = myFixture.findUsages( myFixture.getElementAtCaret() );
@@ -6,12 +6,12 @@
 package org.mapstruct.intellij;
 
 import com.intellij.codeInsight.lookup.LookupElement;
-import com.intellij.codeInsight.lookup.LookupElementPresentation;
 import com.intellij.ide.highlighter.JavaFileType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiEnumConstant;
 import com.intellij.psi.PsiReference;
 import org.intellij.lang.annotations.Language;
+import org.mapstruct.intellij.testutil.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mapstruct.intellij.testutil.TestUtils.createField;
@@ -105,7 +105,7 @@ public void testSourceValueMappingVariants() {
                 "NORMAL"
             );
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .containsExactlyInAnyOrder(
                 createField( "OPEN", "RoofType" ),
@@ -134,7 +134,7 @@ public void testSourceValueMappingWithExisting() {
                 "NORMAL"
             );
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .containsExactlyInAnyOrder(
                 createField( "OPEN", "RoofType" ),
@@ -162,7 +162,7 @@ public void testSourceValueMappingsWithExisting() {
                 "NORMAL"
             );
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .containsExactlyInAnyOrder(
                 createField( "OPEN", "RoofType" ),
@@ -189,7 +189,7 @@ public void testSourceValueMappingAllValuesAlreadyMapped() {
             .extracting( LookupElement::getLookupString )
             .isEmpty();
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .isEmpty();
     }
@@ -212,11 +212,80 @@ public void testSourceValueMappingsAllValuesAlreadyMapped() {
             .extracting( LookupElement::getLookupString )
             .isEmpty();
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .isEmpty();
     }
 
+    public void testSourceValueMappingWithPrefix() {
+        myFixture.configureByText( JavaFileType.INSTANCE, String.format( SOURCE_VALUE_MAPPING, "" )
+            .replace( "<caret>", "B<caret>" ) );
+        complete();
+
+        // BOX is the only constant that matches the prefix, so it is inserted right away
+        assertThat( myItems ).isNull();
+        assertThat( myFixture.getFile().getText() )
+            .contains( "@ValueMapping(source = \"BOX\", target = \"STANDARD\")" );
+    }
+
+    public void testSourceValueMappingWithPrefixAlreadyMapped() {
+        String source = String.format(
+            SOURCE_VALUE_MAPPING_DYNAMIC,
+                """
+                        @ValueMapping(source = "BOX", target = "NORMAL")
+                        @ValueMapping(source = "B<caret>", target = "STANDARD")
+                        """
+        );
+        myFixture.configureByText( JavaFileType.INSTANCE, source );
+        complete();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .isEmpty();
+    }
+
+    public void testSourceValueMappingWithExistingAndCurrentValue() {
+        String source = String.format(
+            SOURCE_VALUE_MAPPING_DYNAMIC,
+                """
+                        @ValueMapping(source = "GAMBREL", target = "NORMAL")
+                        @ValueMapping(source = "<caret>BOX", target = "STANDARD")
+                        """
+        );
+        myFixture.configureByText( JavaFileType.INSTANCE, source );
+        complete();
+
+        // The value that is being completed can be replaced by itself
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder(
+                "OPEN",
+                "BOX",
+                "NORMAL"
+            );
+    }
+
+    public void testSourceValueMappingVariantsOutsideOfCompletion() {
+        String source = String.format(
+            SOURCE_VALUE_MAPPING_DYNAMIC,
+                """
+                        @ValueMapping(source = "GAMBREL", target = "NORMAL")
+                        @ValueMapping(source = "<caret>BOX", target = "STANDARD")
+                        """
+        );
+        myFixture.configureByText( JavaFileType.INSTANCE, source );
+
+        PsiReference reference = myFixture.getFile().findReferenceAt( myFixture.getCaretOffset() );
+        assertThat( reference ).isNotNull();
+        // Outside of completion the current value is already mapped by the annotation of the reference
+        assertThat( reference.getVariants() )
+            .extracting( variant -> ( (LookupElement) variant ).getLookupString() )
+            .containsExactlyInAnyOrder(
+                "OPEN",
+                "NORMAL"
+            );
+    }
+
     public void testSourceValueMappingResolveToEnum() {
         myFixture.configureByText( JavaFileType.INSTANCE, String.format( SOURCE_VALUE_MAPPING, "NORMAL" ) );
 
@@ -274,7 +343,7 @@ public void testTargetValueMappingVariants() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingElementComparatorIgnoringFields( "myIcon" )
             .containsExactlyInAnyOrder(
                 createField( "OPEN", "ExternalRoofType" ),
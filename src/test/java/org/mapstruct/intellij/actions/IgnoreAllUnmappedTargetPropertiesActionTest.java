@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.actions;
+
+import com.intellij.testFramework.PlatformTestUtil;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+/**
+ * Tests for {@link IgnoreAllUnmappedTargetPropertiesAction}.
+ */
+public class IgnoreAllUnmappedTargetPropertiesActionTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/actions";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.copyFileToProject(
+            "../inspection/UnmappedTargetPropertiesData.java",
+            "org/example/data/UnmappedTargetPropertiesData.java"
+        );
+    }
+
+    public void testIgnoreAllUnmappedTargetProperties() {
+        String testName = getTestName( false );
+        myFixture.configureByFile( testName + ".java" );
+
+        myFixture.testAction( new IgnoreAllUnmappedTargetPropertiesAction() );
+        // The properties are ignored from a background task, which changes the files on the EDT
+        PlatformTestUtil.dispatchAllInvocationEventsInIdeEventQueue();
+
+        myFixture.checkResultByFile( testName + "_after.java" );
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.codeinsight.references;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiMethod;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the completion of {@link MapstructTargetReference} when it is invoked several times in the same literal.
+ */
+public class MapstructTargetReferenceCacheTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/mapping";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        addDirectoryToProject( "dto" );
+    }
+
+    public void testCompletionWithLongerPrefixOnlyFiltersTheAccessors() {
+        configureByFile( "TargetAccessorsCache.java" );
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "make", "manufacturingYear", "myDriver", "price" )
+            .doesNotContain( "seatCount" );
+
+        LookupManager.getInstance( getProject() ).hideActiveLookup();
+        myFixture.type( "m" );
+        complete();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder( "make", "manufacturingYear", "myDriver" );
+        assertThat( myItems )
+            .extracting( LookupElement::getPsiElement )
+            .allSatisfy( element -> {
+                assertThat( element.isValid() ).isTrue();
+                assertThat( element.isPhysical() ).isTrue();
+            } );
+    }
+
+    public void testCompletionAfterAddingAccessorToTheTarget() {
+        configureByFile( "TargetAccessorsCache.java" );
+        LookupManager.getInstance( getProject() ).hideActiveLookup();
+
+        PsiClass carDto = myFixture.findClass( "org.example.dto.CarDto" );
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            PsiMethod setter = myFixture.getElementFactory()
+                .createMethodFromText( "public void setColor(String color) {}", carDto );
+            carDto.add( setter );
+        } );
+
+        complete();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "color", "make" );
+    }
+
+    public void testCompletionAfterRemovingAccessorFromTheTarget() {
+        configureByFile( "TargetAccessorsCache.java" );
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "price" );
+        LookupManager.getInstance( getProject() ).hideActiveLookup();
+
+        PsiClass carDto = myFixture.findClass( "org.example.dto.CarDto" );
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            for ( PsiMethod setter : carDto.findMethodsByName( "setPrice", false ) ) {
+                setter.delete();
+            }
+        } );
+
+        complete();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "make" )
+            .doesNotContain( "price" );
+        assertThat( myItems )
+            .extracting( LookupElement::getPsiElement )
+            .allSatisfy( element -> assertThat( element.isValid() ).isTrue() );
+    }
+
+    public void testCompletionDoesNotProposeTargetsMappedAfterTheFirstCompletion() {
+        configureByFile( "TargetAccessorsCache.java" );
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "make" );
+        LookupManager.getInstance( getProject() ).hideActiveLookup();
+
+        int offset = myFixture.getCaretOffset();
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> myFixture.getEditor()
+            .getDocument()
+            .insertString(
+                myFixture.getFile().getText().indexOf( "@Mapping(target" ),
+                "@Mapping(target = \"make\", ignore = true)\n    "
+            ) );
+        PsiDocumentManager.getInstance( getProject() ).commitAllDocuments();
+        assertThat( myFixture.getCaretOffset() ).isGreaterThan( offset );
+
+        complete();
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .contains( "manufacturingYear" )
+            .doesNotContain( "make", "seatCount" );
+    }
+}
@@ -6,10 +6,10 @@
 package org.mapstruct.intellij.completion;
 
 import com.intellij.codeInsight.lookup.LookupElement;
-import com.intellij.codeInsight.lookup.LookupElementPresentation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
 import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.testutil.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mapstruct.intellij.testutil.TestUtils.createVariable;
@@ -46,7 +46,7 @@ private void assertCarAutoComplete() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createVariable( "make", "String" ),
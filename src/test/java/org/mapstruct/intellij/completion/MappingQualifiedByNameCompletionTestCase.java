@@ -5,9 +5,21 @@
  */
 package org.mapstruct.intellij.completion;
 
+import java.io.File;
+
 import com.intellij.codeInsight.lookup.LookupElement;
-import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.openapi.vfs.newvfs.impl.VfsRootAccess;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.DumbModeTestUtils;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.util.PathUtil;
+import com.intellij.util.indexing.DumbModeAccessType;
+import com.intellij.util.indexing.FileBasedIndex;
 import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.testutil.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mapstruct.intellij.testutil.TestUtils.createMethod;
@@ -38,7 +50,7 @@ private void assertQualifiedByNameLocalReferenceAutoComplete() {
             .containsExactlyInAnyOrder( "numberToZero", "doubleSeatCount" );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createMethod( "numberToZero", "Long", " CarMapper#setToZero(int)" ),
@@ -57,7 +69,7 @@ private void assertQualifiedByNameLocalAndExternalReferenceAutoComplete() {
             .containsExactlyInAnyOrder( "numberToZero", "doubleSeatCount", "trimString", "unwrapOptional" );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 // local methods
@@ -81,7 +93,7 @@ private void assertQualifiedByNameInsideMapperConfigAutoComplete() {
             .containsOnly( "unwrapOptional" );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .describedAs( "methods of mappers from @MapperConfig(uses = ...)" )
             .containsOnly(
@@ -112,7 +124,7 @@ private void assertAutoCompleteOfValidVisibilities() {
             );
 
         assertThat( myItems )
-            .extracting( LookupElementPresentation::renderElement )
+            .extracting( TestUtils::renderElement )
             .usingRecursiveFieldByFieldElementComparator()
             .containsExactlyInAnyOrder(
                 createMethod(
@@ -156,4 +168,116 @@ private void assertAutoCompleteOfValidVisibilities() {
             );
     }
 
+    public void testMappingQualifiedByNameWithPrefix() {
+        configureByTestName();
+
+        assertThat( myItems ).isNull();
+        assertThat( myFixture.getFile().getText() ).contains( "qualifiedByName = \"doubleSeatCount\"" );
+    }
+
+    public void testMappingQualifiedByNameCompiledNamedMethod() {
+        addCompiledNamedMethodsLibrary();
+        configureByTestName();
+
+        assertThat( myItems )
+            .extracting( TestUtils::renderElement )
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrder(
+                createMethod( "numberToZero", "Long", " CarMapper#setToZero(int)" ),
+                createMethod( "compiledUpperCase", "String", " CompiledStringMapper#upperCase(String)" )
+            );
+    }
+
+    public void testMappingQualifiedByNameResolveNamedMethod() {
+        myFixture.configureByFile( "MappingQualifiedByNameResolveNamedMethod.java" );
+
+        assertResolvedMethod( "trim", "org.mapstruct.helper.qualifiedbyname.StringMapper" );
+    }
+
+    public void testMappingQualifiedByNameResolveNonLiteralNamedMethod() {
+        myFixture.configureByFile( "MappingQualifiedByNameResolveNonLiteralNamedMethod.java" );
+
+        assertResolvedMethod( "toUpperCase", "org.mapstruct.ap.test.complex.CarMapper" );
+    }
+
+    public void testMappingQualifiedByNameResolveCompiledNamedMethod() {
+        addCompiledNamedMethodsLibrary();
+        myFixture.configureByFile( "MappingQualifiedByNameResolveCompiledNamedMethod.java" );
+
+        PsiMethod method = assertResolvedMethod(
+            "upperCase",
+            "org.mapstruct.helper.qualifiedbyname.compiled.CompiledStringMapper"
+        );
+        assertThat( method ).isInstanceOf( PsiCompiledElement.class );
+    }
+
+    public void testMappingQualifiedByNameResolveNamedMethodInDumbMode() {
+        myFixture.configureByFile( "MappingQualifiedByNameResolveNamedMethod.java" );
+        PsiReference reference = myFixture.getFile().findReferenceAt( myFixture.getCaretOffset() );
+        assertThat( reference ).isNotNull();
+
+        // The NamedMethodIndex is not used in dumb mode, the methods of the mappers are checked instead
+        DumbModeTestUtils.runInDumbModeSynchronously( getProject(), () -> FileBasedIndex.getInstance()
+            .ignoreDumbMode( DumbModeAccessType.RELIABLE_DATA_ONLY, () -> assertThat( reference.resolve() )
+                .isInstanceOfSatisfying( PsiMethod.class, method -> {
+                    assertThat( method.getName() ).isEqualTo( "trim" );
+                } ) ) );
+    }
+
+    public void testMappingQualifiedByNameResolveKotlinNamedMethod() {
+        myFixture.addFileToProject(
+            "org/mapstruct/helper/qualifiedbyname/kotlin/KotlinStringMapper.kt",
+            "package org.mapstruct.helper.qualifiedbyname.kotlin\n" +
+                "\n" +
+                "import org.mapstruct.Named\n" +
+                "\n" +
+                "class KotlinStringMapper {\n" +
+                "\n" +
+                "    @Named(\"kotlinTrim\")\n" +
+                "    fun trim(value: String): String = value.trim()\n" +
+                "}"
+        );
+        myFixture.configureByText( "CarMapper.java", "package org.mapstruct.ap.test.complex;\n" +
+            "\n" +
+            "import org.example.dto.Car;\n" +
+            "import org.example.dto.CarDto;\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "import org.mapstruct.Mapping;\n" +
+            "import org.mapstruct.helper.qualifiedbyname.kotlin.KotlinStringMapper;\n" +
+            "\n" +
+            "@Mapper(uses = KotlinStringMapper.class)\n" +
+            "public interface CarMapper {\n" +
+            "\n" +
+            "    @Mapping(source = \"make\", target = \"make\", qualifiedByName = \"kotlin<caret>Trim\")\n" +
+            "    CarDto carToCarDto(Car car);\n" +
+            "}" );
+
+        assertResolvedMethod( "trim", "org.mapstruct.helper.qualifiedbyname.kotlin.KotlinStringMapper" );
+    }
+
+    private PsiMethod assertResolvedMethod(String methodName, String className) {
+        PsiReference reference = myFixture.getFile().findReferenceAt( myFixture.getCaretOffset() );
+        assertThat( reference ).isNotNull();
+
+        PsiElement resolved = reference.resolve();
+        assertThat( resolved ).isInstanceOfSatisfying( PsiMethod.class, method -> {
+            assertThat( method.getName() ).isEqualTo( methodName );
+            assertThat( method.getContainingClass() ).isNotNull();
+            assertThat( method.getContainingClass().getQualifiedName() ).isEqualTo( className );
+        } );
+
+        return (PsiMethod) resolved;
+    }
+
+    private void addCompiledNamedMethodsLibrary() {
+        String libPath = PathUtil.toSystemIndependentName( new File( getTestDataPath(), "lib" ).getAbsolutePath() );
+        VfsRootAccess.allowRootAccess( getTestRootDisposable(), libPath );
+        PsiTestUtil.addLibrary(
+            myFixture.getProjectDisposable(),
+            myFixture.getModule(),
+            "CompiledNamedMethods",
+            libPath,
+            "compiled-named-methods.jar"
+        );
+    }
 }
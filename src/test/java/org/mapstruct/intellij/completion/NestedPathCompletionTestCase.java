@@ -0,0 +1,161 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.completion;
+
+import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.lookup.LookupElement;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.settings.ProjectSettings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the nested paths that are proposed when the completion is invoked a second time.
+ */
+public class NestedPathCompletionTestCase extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public class Node {\n" +
+            "\n" +
+            "    private String name;\n" +
+            "    private Node parent;\n" +
+            "\n" +
+            "    public String getName() {\n" +
+            "        return name;\n" +
+            "    }\n" +
+            "\n" +
+            "    public void setName(String name) {\n" +
+            "        this.name = name;\n" +
+            "    }\n" +
+            "\n" +
+            "    public Node getParent() {\n" +
+            "        return parent;\n" +
+            "    }\n" +
+            "\n" +
+            "    public void setParent(Node parent) {\n" +
+            "        this.parent = parent;\n" +
+            "    }\n" +
+            "}" );
+        myFixture.configureByText( "NodeMapper.java", "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "import org.mapstruct.Mapping;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface NodeMapper {\n" +
+            "\n" +
+            "    @Mapping(target = \"<caret>\")\n" +
+            "    Node map(Node source);\n" +
+            "}" );
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            ProjectSettings.setNestedPathCompletionDepth(
+                getProject(),
+                ProjectSettings.DEFAULT_NESTED_PATH_COMPLETION_DEPTH
+            );
+        }
+        catch ( Throwable e ) {
+            addSuppressedException( e );
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    public void testFirstInvocationOnlyProposesTheProperties() {
+        assertThat( myFixture.complete( CompletionType.BASIC ) )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder( "name", "parent" );
+    }
+
+    public void testSecondInvocationProposesTheNestedPaths() {
+        assertThat( myFixture.complete( CompletionType.BASIC, 2 ) )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder(
+                "name",
+                "parent",
+                "parent.name",
+                "parent.parent",
+                "parent.parent.name",
+                "parent.parent.parent"
+            );
+    }
+
+    public void testSecondInvocationFollowsTheConfiguredDepth() {
+        ProjectSettings.setNestedPathCompletionDepth( getProject(), 2 );
+
+        assertThat( myFixture.complete( CompletionType.BASIC, 2 ) )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder( "name", "parent", "parent.name", "parent.parent" );
+    }
+
+    public void testSecondInvocationWithoutNestedPathsWhenDisabled() {
+        ProjectSettings.setNestedPathCompletionDepth( getProject(), 1 );
+
+        assertThat( myFixture.complete( CompletionType.BASIC, 2 ) )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder( "name", "parent" );
+    }
+
+    public void testSecondInvocationWithSelfReferencingType() {
+        ProjectSettings.setNestedPathCompletionDepth( getProject(), 8 );
+
+        assertThat( myFixture.complete( CompletionType.BASIC, 2 ) )
+            .extracting( LookupElement::getLookupString )
+            .hasSize( 16 )
+            .contains( "parent.parent.parent.parent.parent.parent.parent.name" );
+    }
+
+    public void testSecondInvocationProposesTheNestedPathsOfPropertiesWithTheSameType() {
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public class Address {\n" +
+            "\n" +
+            "    private String street;\n" +
+            "\n" +
+            "    public void setStreet(String street) {\n" +
+            "        this.street = street;\n" +
+            "    }\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public class Person {\n" +
+            "\n" +
+            "    private Address home;\n" +
+            "    private Address work;\n" +
+            "\n" +
+            "    public void setHome(Address home) {\n" +
+            "        this.home = home;\n" +
+            "    }\n" +
+            "\n" +
+            "    public void setWork(Address work) {\n" +
+            "        this.work = work;\n" +
+            "    }\n" +
+            "}" );
+        myFixture.configureByText( "PersonMapper.java", "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "import org.mapstruct.Mapping;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface PersonMapper {\n" +
+            "\n" +
+            "    @Mapping(target = \"<caret>\")\n" +
+            "    Person map(Person source);\n" +
+            "}" );
+
+        assertThat( myFixture.complete( CompletionType.BASIC, 2 ) )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder( "home", "work", "home.street", "work.street" );
+    }
+}
@@ -13,6 +13,10 @@
 import com.intellij.codeInsight.intention.impl.QuickEditHandler;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
 import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.lang.injection.InjectedLanguageManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiJavaToken;
@@ -754,6 +758,57 @@ protected void withTextBlockAndTargetDefined(String attribute) {
         assertThat( elementAt.getText() ).isEqualTo( ";" );
     }
 
+    public void testInjectionFollowsEditsOfTheExpressionAndTheTarget() {
+        String mapping = "@Mapping(target = \"manufacturingYear\", expression = \"java(car.getMa<caret>)\")\n";
+        @Language("java")
+        String mapper = formatMapper( CAR_MAPPER, mapping );
+        PsiFile file = configureMapperByText( mapper );
+
+        assertThat( injectedFileText( file ) ).contains( "String __test__(", "return car.getMa;" );
+
+        myFixture.type( "ke" );
+        assertThat( injectedFileText( file ) ).contains( "String __test__(", "return car.getMake;" );
+
+        int targetOffset = file.getText().indexOf( "manufacturingYear" );
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> myFixture.getEditor()
+            .getDocument()
+            .replaceString( targetOffset, targetOffset + "manufacturingYear".length(), "seatCount" ) );
+        assertThat( injectedFileText( file ) ).contains( "int __test__(", "return car.getMake;" );
+    }
+
+    public void testInjectionFollowsChangesOfTheSourceClass() {
+        String mapping = "@Mapping(target = \"manufacturingYear\", expression = \"java(car.<caret>)\")\n";
+        @Language("java")
+        String mapper = formatMapper( CAR_MAPPER, mapping );
+        PsiFile file = configureMapperByText( mapper );
+
+        assertThat( injectedFileText( file ) ).contains( "return car.;" );
+        assertThat( myFixture.completeBasic() )
+            .extracting( LookupElementPresentation::renderElement )
+            .extracting( LookupElementPresentation::getItemText )
+            .contains( "getMake" )
+            .doesNotContain( "drive" );
+
+        PsiClass car = myFixture.findClass( "org.example.dto.Car" );
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            car.add( myFixture.getElementFactory().createMethodFromText( "public void drive() {}", car ) );
+        } );
+
+        assertThat( injectedFileText( file ) ).contains( "return car.;" );
+        assertThat( myFixture.completeBasic() )
+            .extracting( LookupElementPresentation::renderElement )
+            .extracting( LookupElementPresentation::getItemText )
+            .contains( "getMake", "drive" );
+    }
+
+    private String injectedFileText(PsiFile file) {
+        PsiDocumentManager.getInstance( getProject() ).commitAllDocuments();
+        PsiElement injectedElement = InjectedLanguageManager.getInstance( getProject() )
+            .findInjectedElementAt( file, myFixture.getCaretOffset() - 1 );
+        assertThat( injectedElement ).as( "Injected element" ).isNotNull();
+        return injectedElement.getContainingFile().getText();
+    }
+
     private PsiFile configureMapperByText(@Language("java") String text) {
         return myFixture.configureByText( JavaFileType.INSTANCE, text );
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.File;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.psi.PsiClass;
+import com.intellij.openapi.vfs.newvfs.impl.VfsRootAccess;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.util.PathUtil;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.util.DefinedMapping;
+import org.mapstruct.intellij.util.MapStructVersion;
+import org.mapstruct.intellij.util.MapstructAnnotationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ComposedMappingAnnotationIndex}.
+ */
+public class ComposedMappingAnnotationIndexTest extends MapstructBaseCompletionTestCase {
+
+    private PsiClass notComposed;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapping;\n" +
+            "\n" +
+            "@Mapping(target = \"name\", ignore = true)\n" +
+            "public @interface IgnoreName {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "@IgnoreName\n" +
+            "public @interface IgnoreNameAndId {\n" +
+            "}" );
+        notComposed = myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public @interface NotComposed {\n" +
+            "}" );
+    }
+
+    public void testFindComposedMappingAnnotations() {
+        assertThat( ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() ) )
+            .containsExactlyInAnyOrder( "com.example.IgnoreName", "com.example.IgnoreNameAndId" );
+    }
+
+    public void testModificationTrackerOnlyChangesWhenComposedAnnotationsChange() {
+        myFixture.configureByText( "Unrelated.java", "package com.example;\n" +
+            "\n" +
+            "public class Unrelated {\n" +
+            "\n" +
+            "    void doSomething() {\n" +
+            "        <caret>\n" +
+            "    }\n" +
+            "}" );
+
+        ModificationTracker tracker = ComposedMappingAnnotationIndex.getModificationTracker( getProject() );
+        ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() );
+        long modificationCount = tracker.getModificationCount();
+
+        myFixture.type( "int answer = 42;" );
+        PsiDocumentManager.getInstance( getProject() ).commitAllDocuments();
+        ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() );
+
+        assertThat( tracker.getModificationCount() ).isEqualTo( modificationCount );
+
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            PsiModifierList modifierList = notComposed.getModifierList();
+            assertThat( modifierList ).isNotNull();
+            modifierList.addAnnotation( "com.example.IgnoreName" );
+        } );
+
+        // The tracker does no index work, it changes when the composed mapping annotations are recomputed
+        assertThat( ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() ) )
+            .contains( "com.example.NotComposed" );
+        assertThat( tracker.getModificationCount() ).isGreaterThan( modificationCount );
+    }
+
+    public void testFindComposedMappingAnnotationsThroughCompiledComposedMappingAnnotation() {
+        String libPath = PathUtil.toSystemIndependentName( new File( "testData/index/lib" ).getAbsolutePath() );
+        VfsRootAccess.allowRootAccess( getTestRootDisposable(), libPath );
+        PsiTestUtil.addLibrary(
+            myFixture.getProjectDisposable(),
+            myFixture.getModule(),
+            "CompiledComposedMappingAnnotations",
+            libPath,
+            "compiled-composed-mapping-annotations.jar"
+        );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.helper.composed.CompiledIgnoreId;\n" +
+            "\n" +
+            "@CompiledIgnoreId\n" +
+            "public @interface IgnoreCompiledId {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "@IgnoreCompiledId\n" +
+            "public @interface IgnoreCompiledIdAndMore {\n" +
+            "}" );
+
+        assertThat( ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() ) )
+            .contains( "com.example.IgnoreCompiledId", "com.example.IgnoreCompiledIdAndMore" );
+    }
+
+    public void testKotlinComposedMappingAnnotations() {
+        myFixture.addFileToProject( "com/example/KotlinIgnoreName.kt", "package com.example\n" +
+            "\n" +
+            "import org.mapstruct.Mapping\n" +
+            "\n" +
+            "@Mapping(target = \"name\", ignore = true)\n" +
+            "annotation class KotlinIgnoreName\n" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "@KotlinIgnoreName\n" +
+            "public @interface IgnoreKotlinName {\n" +
+            "}" );
+        PsiClass mapper = myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public interface PersonMapper {\n" +
+            "\n" +
+            "    @KotlinIgnoreName\n" +
+            "    Object direct(Object source);\n" +
+            "\n" +
+            "    @IgnoreKotlinName\n" +
+            "    Object composed(Object source);\n" +
+            "}" );
+
+        assertThat( ComposedMappingAnnotationIndex.findComposedMappingAnnotations( getProject() ) )
+            .contains( "com.example.IgnoreKotlinName" );
+        for ( PsiMethod method : mapper.getMethods() ) {
+            assertThat( MapstructAnnotationUtils.findAllDefinedMappings( method, MapStructVersion.V1_4_O ) )
+                .as( method.getName() )
+                .extracting( DefinedMapping::target )
+                .containsExactly( "name" );
+        }
+    }
+}
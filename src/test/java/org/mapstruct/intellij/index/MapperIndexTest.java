@@ -0,0 +1,101 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import com.intellij.ide.scratch.ScratchFileService;
+import com.intellij.ide.scratch.ScratchRootType;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MapperIndex}.
+ */
+public class MapperIndexTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface CarMapper {\n" +
+            "\n" +
+            "    @Mapper\n" +
+            "    interface NestedMapper {\n" +
+            "    }\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "@org.mapstruct.MapperConfig\n" +
+            "public interface CentralConfig {\n" +
+            "}" );
+        myFixture.addClass( "package com.example.other;\n" +
+            "\n" +
+            "public @interface Mapper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example.other;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface NotAMapStructMapper {\n" +
+            "}" );
+    }
+
+    public void testFindMappers() {
+        assertThat( MapperIndex.findMappers( getProject(), GlobalSearchScope.projectScope( getProject() ) ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactlyInAnyOrder( "com.example.CarMapper", "com.example.CarMapper.NestedMapper" );
+    }
+
+    public void testFindMapperConfigs() {
+        assertThat( MapperIndex.findMapperConfigs( getProject(), GlobalSearchScope.projectScope( getProject() ) ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactly( "com.example.CentralConfig" );
+    }
+
+    public void testIsMapper() {
+        assertThat( MapperIndex.isMapper( myFixture.findClass( "com.example.CarMapper" ) ) ).isTrue();
+        assertThat( MapperIndex.isMapper( myFixture.findClass( "com.example.CarMapper.NestedMapper" ) ) ).isTrue();
+        assertThat( MapperIndex.isMapper( myFixture.findClass( "com.example.CentralConfig" ) ) ).isFalse();
+        assertThat( MapperIndex.isMapper( myFixture.findClass( "com.example.other.NotAMapStructMapper" ) ) )
+            .isFalse();
+    }
+
+    public void testIsMapperConfig() {
+        assertThat( MapperIndex.isMapperConfig( myFixture.findClass( "com.example.CentralConfig" ) ) ).isTrue();
+        assertThat( MapperIndex.isMapperConfig( myFixture.findClass( "com.example.CarMapper" ) ) ).isFalse();
+    }
+
+    public void testIsMapperInFileThatIsNotIndexed() {
+        VirtualFile scratchFile = ScratchRootType.getInstance().createScratchFile(
+            getProject(),
+            "ScratchMapper.java",
+            JavaLanguage.INSTANCE,
+            "import org.mapstruct.Mapper;\n" +
+                "\n" +
+                "@Mapper\n" +
+                "public interface ScratchMapper {\n" +
+                "}",
+            ScratchFileService.Option.create_new_always
+        );
+        assertThat( scratchFile ).isNotNull();
+        PsiFile psiFile = PsiManager.getInstance( getProject() ).findFile( scratchFile );
+        assertThat( psiFile ).isInstanceOf( PsiJavaFile.class );
+
+        PsiClass scratchMapper = ( (PsiJavaFile) psiFile ).getClasses()[0];
+        assertThat( IndexUtils.findIndexedJavaFile( scratchMapper ) ).isNull();
+        assertThat( MapperIndex.isMapper( scratchMapper ) ).isTrue();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MapperUsesIndex}.
+ */
+public class MapperUsesIndexTest extends MapstructBaseCompletionTestCase {
+
+    public void testFindUsingMappers() {
+        PsiClass helper = myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public class DateHelper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example.other;\n" +
+            "\n" +
+            "public class DateHelper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper(uses = { String.class, DateHelper.class })\n" +
+            "public interface CarMapper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.MapperConfig;\n" +
+            "\n" +
+            "@MapperConfig(uses = DateHelper.class)\n" +
+            "public interface CentralConfig {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper(config = CentralConfig.class)\n" +
+            "public interface PersonMapper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper(uses = com.example.other.DateHelper.class)\n" +
+            "public interface OtherMapper {\n" +
+            "}" );
+
+        assertThat( MapperUsesIndex.findUsingMappers( helper, GlobalSearchScope.projectScope( getProject() ) ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactlyInAnyOrder(
+                "com.example.CarMapper",
+                "com.example.CentralConfig",
+                "com.example.PersonMapper"
+            );
+    }
+
+    public void testFindUsingNestedMappers() {
+        PsiClass helper = myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public class DateHelper {\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "public class Mappers {\n" +
+            "\n" +
+            "    @Mapper(uses = DateHelper.class)\n" +
+            "    public interface NestedMapper {\n" +
+            "    }\n" +
+            "}" );
+        myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface PlainMapper {\n" +
+            "\n" +
+            "    default String config(DateHelper helper) {\n" +
+            "        return \"uses\";\n" +
+            "    }\n" +
+            "}" );
+
+        assertThat( MapperUsesIndex.findUsingMappers( helper, GlobalSearchScope.projectScope( getProject() ) ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactly( "com.example.Mappers.NestedMapper" );
+    }
+}
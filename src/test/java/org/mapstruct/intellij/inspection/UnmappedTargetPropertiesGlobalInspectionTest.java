@@ -0,0 +1,96 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ex.GlobalInspectionToolWrapper;
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.PsiElement;
+import com.intellij.testFramework.IdeaTestUtil;
+import com.intellij.testFramework.InspectionTestUtil;
+import com.intellij.testFramework.InspectionsKt;
+import com.intellij.testFramework.fixtures.impl.GlobalInspectionContextForTests;
+import org.jetbrains.annotations.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the batch {@link UnmappedTargetPropertiesGlobalInspection} reports the same problems as the
+ * {@link UnmappedTargetPropertiesInspection} in the editor.
+ */
+public class UnmappedTargetPropertiesGlobalInspectionTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<UnmappedTargetPropertiesInspection> getInspection() {
+        return UnmappedTargetPropertiesInspection.class;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        IdeaTestUtil.setModuleLanguageLevel( getModule(), LanguageLevel.JDK_1_7 );
+        myFixture.copyFileToProject(
+            "UnmappedTargetPropertiesData.java",
+            "org/example/data/UnmappedTargetPropertiesData.java"
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        IdeaTestUtil.setModuleLanguageLevel( getModule(), LanguageLevel.JDK_17 );
+        super.tearDown();
+    }
+
+    public void testReportsTheSameProblemsAsTheLocalInspection() throws IOException {
+        // The expected highlighting markup of the local inspection test is not needed here
+        String text = Files.readString( Path.of( getTestDataPath(), "UnmappedTargetProperties.java" ) )
+            .replaceAll( "<warning descr=\"[^\"]*\">|</warning>", "" );
+        myFixture.configureByText( "UnmappedTargetProperties.java", text );
+
+        myFixture.enableInspections( getInspection() );
+        List<String> localProblems = myFixture.doHighlighting()
+            .stream()
+            .filter( info -> info.getDescription() != null &&
+                info.getDescription().startsWith( "Unmapped target propert" ) )
+            .map( UnmappedTargetPropertiesGlobalInspectionTest::describeHighlight )
+            .toList();
+
+        GlobalInspectionToolWrapper toolWrapper =
+            new GlobalInspectionToolWrapper( new UnmappedTargetPropertiesGlobalInspection() );
+        AnalysisScope scope = new AnalysisScope( getProject() );
+        GlobalInspectionContextForTests globalContext =
+            InspectionsKt.createGlobalContextForTool( scope, getProject(), List.of( toolWrapper ) );
+        InspectionTestUtil.runTool( toolWrapper, scope, globalContext );
+
+        List<String> batchProblems = globalContext.getPresentation( toolWrapper )
+            .getProblemDescriptors()
+            .stream()
+            .map( UnmappedTargetPropertiesGlobalInspectionTest::describeProblem )
+            .toList();
+
+        assertThat( localProblems ).isNotEmpty();
+        assertThat( batchProblems ).containsExactlyInAnyOrderElementsOf( localProblems );
+    }
+
+    private static String describeHighlight(HighlightInfo info) {
+        return info.getStartOffset() + ": " + info.getDescription();
+    }
+
+    private static String describeProblem(CommonProblemDescriptor descriptor) {
+        assertThat( descriptor ).isInstanceOf( ProblemDescriptor.class );
+        PsiElement element = ( (ProblemDescriptor) descriptor ).getPsiElement();
+        return element.getTextRange().getStartOffset() + ": " + descriptor.getDescriptionTemplate();
+    }
+}
@@ -77,4 +77,18 @@ public void testUnmappedTargetProperties() {
         String testName = getTestName( false );
         myFixture.checkResultByFile( testName + "_after.java" );
     }
+
+    public void testUnmappedTargetPropertiesIgnoreAllWithExistingMappings() {
+        doTest();
+        List<IntentionAction> ignoreAllQuickFixes = myFixture.getAllQuickFixes()
+            .stream()
+            .filter( quickFix -> quickFix.getText().equals( "Ignore all unmapped target properties" ) )
+            .toList();
+
+        assertThat( ignoreAllQuickFixes ).hasSize( 2 );
+
+        ignoreAllQuickFixes.forEach( myFixture::launchAction );
+        String testName = getTestName( false );
+        myFixture.checkResultByFile( testName + "_after.java" );
+    }
 }
@@ -7,8 +7,10 @@
 
 import javax.swing.Icon;
 
+import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.java.analysis.JavaAnalysisBundle;
 import com.intellij.util.PlatformIcons;
 
@@ -43,6 +45,21 @@ private static LookupElementPresentation create(String lookupString, String type
             .withTypeText( typeText ) );
     }
 
+    /**
+     * Render the {@code element} like the lookup does, i.e. with its cheap renderer first and then with its expensive
+     * renderer, if it has one.
+     */
+    @SuppressWarnings("unchecked")
+    public static LookupElementPresentation renderElement(LookupElement element) {
+        LookupElementPresentation presentation = new LookupElementPresentation();
+        element.renderElement( presentation );
+        LookupElementRenderer<? extends LookupElement> expensiveRenderer = element.getExpensiveRenderer();
+        if ( expensiveRenderer != null ) {
+            ( (LookupElementRenderer<LookupElement>) expensiveRenderer ).renderElement( element, presentation );
+        }
+        return presentation;
+    }
+
     public static String quickFixAnnotateInterfaceMessage(String interfaceName, String annotationName) {
         return JavaAnalysisBundle
             .message(
@@ -0,0 +1,107 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.util.CachedValue;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MapstructUtil#mayContainMapStructCode(PsiFile)}.
+ */
+public class MapstructUtilMayContainMapStructCodeTest extends MapstructBaseCompletionTestCase {
+
+    public void testFileWithoutMapStructIsSkipped() {
+        PsiFile file = myFixture.configureByText( "Plain.java", "package com.example;\n" +
+            "\n" +
+            "@Deprecated\n" +
+            "public class Plain {\n" +
+            "\n" +
+            "    String mapping;\n" +
+            "}" );
+
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isFalse();
+        assertThat( buildUnmappedTargetPropertiesVisitor( file ) ).isSameAs( PsiElementVisitor.EMPTY_VISITOR );
+    }
+
+    public void testFileWithMapStructIsNotSkipped() {
+        PsiFile file = myFixture.configureByText( "PlainMapper.java", "package com.example;\n" +
+            "\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "\n" +
+            "@Mapper\n" +
+            "public interface PlainMapper {\n" +
+            "}" );
+
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isTrue();
+        assertThat( buildUnmappedTargetPropertiesVisitor( file ) ).isNotSameAs( PsiElementVisitor.EMPTY_VISITOR );
+    }
+
+    public void testFileWithComposedMappingAnnotationIsNotSkipped() {
+        PsiClass ignoreName = myFixture.addClass( "package com.example;\n" +
+            "\n" +
+            "public @interface IgnoreName {\n" +
+            "}" );
+        PsiFile file = myFixture.configureByText( "UsesIgnoreName.java", "package com.example;\n" +
+            "\n" +
+            "public interface UsesIgnoreName {\n" +
+            "\n" +
+            "    @IgnoreName\n" +
+            "    Object map(Object source);\n" +
+            "}" );
+
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isFalse();
+
+        // IgnoreName becomes a composed mapping annotation, the unchanged file is not skipped anymore
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            PsiModifierList modifierList = ignoreName.getModifierList();
+            assertThat( modifierList ).isNotNull();
+            modifierList.addAnnotation( "org.mapstruct.Mapping(target = \"name\", ignore = true)" );
+        } );
+
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isTrue();
+    }
+
+    public void testScreenIsKeptWhenAnotherFileChanges() {
+        PsiFile file = myFixture.addFileToProject( "com/example/Plain.java", "package com.example;\n" +
+            "\n" +
+            "public class Plain {\n" +
+            "}" );
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isFalse();
+        CachedValue<MapstructUtil.MapStructCodeScreen> screen =
+            file.getUserData( MapstructUtil.MAPSTRUCT_CODE_SCREEN_KEY );
+        assertThat( screen ).isNotNull();
+
+        myFixture.configureByText( "Unrelated.java", "package com.example;\n" +
+            "\n" +
+            "public class Unrelated {\n" +
+            "\n" +
+            "    void doSomething() {\n" +
+            "        <caret>\n" +
+            "    }\n" +
+            "}" );
+        myFixture.type( "int answer = 42;" );
+        PsiDocumentManager.getInstance( getProject() ).commitAllDocuments();
+
+        assertThat( screen.hasUpToDateValue() ).isTrue();
+        assertThat( MapstructUtil.mayContainMapStructCode( file ) ).isFalse();
+    }
+
+    private PsiElementVisitor buildUnmappedTargetPropertiesVisitor(PsiFile file) {
+        ProblemsHolder holder = new ProblemsHolder( InspectionManager.getInstance( getProject() ), file, true );
+        return new UnmappedTargetPropertiesInspection().buildVisitor( holder, true );
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.example.data.UnmappedTargetPropertiesData.Target;
+import org.example.data.UnmappedTargetPropertiesData.Source;
+
+interface NotMapStructMapper {
+
+    Target map(Source source);
+}
+
+@Mapper
+interface NoMappingsMapper {
+
+    Target map(Source source);
+}
+
+@Mapper
+interface AllMappingsMapper {
+
+    @Mapping(target = "testName", source = "name")
+    @Mapping(target = "moreTarget", source = "moreSource")
+    Target map(Source source);
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.complex;
+
+import org.example.dto.Car;
+import org.example.dto.CarDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.helper.qualifiedbyname.compiled.CompiledStringMapper;
+
+@Mapper(uses = CompiledStringMapper.class)
+public interface CarMapper {
+
+    @Mapping(source = "numberOfSeats", target = "seatCount", qualifiedByName = "<caret>")
+    @Mapping(source = "manufacturingDate", target = "manufacturingYear")
+    CarDto carToCarDto(Car car);
+
+    @Named("numberToZero")
+    default Long setToZero(int ignore) {
+        return 0L;
+    }
+
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.complex;
+
+import org.example.dto.Car;
+import org.example.dto.CarDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.helper.qualifiedbyname.compiled.CompiledStringMapper;
+
+@Mapper(uses = CompiledStringMapper.class)
+public interface CarMapper {
+
+    @Mapping(source = "make", target = "make", qualifiedByName = "compiledUpper<caret>Case")
+    CarDto carToCarDto(Car car);
+
+}
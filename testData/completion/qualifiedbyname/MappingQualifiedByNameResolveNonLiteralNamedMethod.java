@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.complex;
+
+import org.example.dto.Car;
+import org.example.dto.CarDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+@Mapper
+public interface CarMapper {
+
+    String UPPER_CASE = "upperCase";
+
+    @Mapping(source = "make", target = "make", qualifiedByName = "upper<caret>Case")
+    CarDto carToCarDto(Car car);
+
+    @Named(UPPER_CASE)
+    default String toUpperCase(String input) {
+        return input.toUpperCase();
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+import org.example.data.UnmappedTargetPropertiesData.Target;
+import org.example.data.UnmappedTargetPropertiesData.Source;
+
+@Mapper
+interface MappingsMapper {
+
+    @Mappings({
+            @Mapping(target = "matching", ignore = true),
+            @Mapping(target = "moreTarget", ignore = true),
+            @Mapping(target = "testName", ignore = true)
+    })
+    Target map(Source source);
+}
+
+@Mapper
+interface MappingsNoBracesMapper {
+
+    @Mappings({
+            @Mapping(target = "matching", ignore = true),
+            @Mapping(target = "moreTarget", ignore = true),
+            @Mapping(target = "testName", ignore = true)
+    })
+    Target map(Source source);
+}
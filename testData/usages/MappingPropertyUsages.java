@@ -0,0 +1,19 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.test.examples;
+
+public class Person {
+
+    private String name;
+
+    public String get<caret>Name() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
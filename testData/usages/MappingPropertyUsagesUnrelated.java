@@ -0,0 +1,15 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.test.examples;
+
+public class Greeter {
+
+    private final String name = "name";
+
+    public String greet() {
+        return "Hello " + name;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.test.examples;
+
+import org.mapstruct.Named;
+
+public class StringHelper {
+
+    @Named("trimString")
+    public String tr<caret>im(String value) {
+        return value == null ? null : value.trim();
+    }
+}
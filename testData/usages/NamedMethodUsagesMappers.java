@@ -0,0 +1,61 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.test.examples;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+
+@Mapper(uses = StringHelper.class)
+interface UsingMapper {
+
+    @Mapping(target = "name", source = "name", qualifiedByName = "trimString")
+    Target map(Source source);
+}
+
+@MapperConfig(uses = StringHelper.class)
+interface UsingConfig {
+}
+
+@Mapper(config = UsingConfig.class)
+interface ConfiguredMapper {
+
+    @Mapping(target = "name", source = "name", qualifiedByName = "trimString")
+    Target map(Source source);
+}
+
+@Mapper
+interface UnrelatedMapper {
+
+    @Mapping(target = "name", source = "name", qualifiedByName = "trimString")
+    Target map(Source source);
+}
+
+class Source {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+class Target {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}